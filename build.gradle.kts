@@ -67,6 +67,13 @@ repositories {
     maven("https://repo.spongepowered.org/repository/maven-public/") // Mixin.
 }
 
+// Benchmarks. (compiled against the main classes and their compile-time stubs)
+val jmh: SourceSet by sourceSets.creating {
+    val main = sourceSets.main.get()
+    compileClasspath += main.output + main.compileClasspath
+    runtimeClasspath += main.output + main.compileClasspath
+}
+
 // Dependencies.
 dependencies {
     // Annotations.
@@ -83,6 +90,10 @@ dependencies {
         exclude("com.google.errorprone")
         exclude("org.osgi")
     }
+
+    // Benchmarks.
+    "jmhImplementation"(libs.jmh.core)
+    "jmhAnnotationProcessor"(libs.jmh.generator.annprocess)
 }
 
 tasks.withType<JavaCompile> {
@@ -107,8 +118,8 @@ tasks.withType<JavaCompile> {
     // If we ever gonna compile on newer Java versions, uncomment this line.
     // options.release = 8
 
-    // Post-process classes. (strip metadata)
-    if (!"${findProperty("ru.vidtu.ksyxis.debug.metadata") ?: findProperty("ru.vidtu.ksyxis.debug")}".toBoolean()) {
+    // Post-process classes. (strip metadata, except for benchmarks)
+    if ((name != jmh.compileJavaTaskName) && !"${findProperty("ru.vidtu.ksyxis.debug.metadata") ?: findProperty("ru.vidtu.ksyxis.debug")}".toBoolean()) {
         doLast {
             Strip(destinationDirectory.get().asFile, classpath).use { strip ->
                 destinationDirectory.asFileTree
@@ -132,6 +143,21 @@ sourceSets.main {
     }
 }
 
+// Run the benchmarks. Use "-Pru.vidtu.ksyxis.debug.logs=true" to benchmark with debug logs,
+// and "-Pru.vidtu.ksyxis.jmh=<args>" to pass additional JMH arguments. (e.g. a benchmark filter)
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks for the mixin handlers with the GC profiler."
+    classpath = jmh.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    javaLauncher = javaToolchains.launcherFor(java.toolchain)
+    val output = layout.buildDirectory.dir("jmh").get().asFile
+    systemProperty("ksyxis.config", output.resolve("ksyxis.properties").path) // Don't create the config in the project.
+    args("-prof", "gc", "-rf", "json", "-rff", output.resolve("results.json").path)
+    providers.gradleProperty("ru.vidtu.ksyxis.jmh").orNull?.let { args(it.split(' ').filter(String::isNotBlank)) }
+    doFirst { output.mkdirs() }
+}
+
 // Configure custom Javadoc tags.
 tasks.withType<Javadoc> {
     // Use UTF-8.
@@ -195,6 +221,7 @@ tasks.withType<Jar> {
     // Specific handling for the main JAR. (excl. Javadoc/Sources)
     if (name == "jar") {
         // Exclude compile-only code.
+        exclude("jdk/**")
         exclude("net/**")
         exclude("org/**")
         exclude("ru/vidtu/ksyxis/compile/**")
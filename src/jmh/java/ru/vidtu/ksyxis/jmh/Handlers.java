@@ -0,0 +1,116 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis.jmh;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import ru.vidtu.ksyxis.compile.Variables;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Helper for calling the mixin handlers outside the game. Mixin classes can't be
+ * constructed and their handlers are private, so this class works around both.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ */
+@ApiStatus.Internal
+@NullMarked
+final class Handlers {
+    /**
+     * An instance of this class cannot be created.
+     *
+     * @throws AssertionError Always
+     * @deprecated Always throws
+     */
+    @ApiStatus.ScheduledForRemoval
+    @Deprecated
+    @Contract(value = "-> fail", pure = true)
+    private Handlers() {
+        throw new AssertionError("Ksyxis: No instances.");
+    }
+
+    /**
+     * Allocates the mixin instance without calling its constructor. Mixin constructors
+     * throw if the {@link Variables#DEBUG_ASSERTS} are enabled, and handlers only use
+     * the instance for logging, so it is fine to leave it uninitialized.
+     *
+     * @param mixin Mixin class to allocate
+     * @return A new uninitialized mixin instance
+     * @throws RuntimeException If unable to allocate
+     */
+    @Contract(value = "_ -> new", pure = true)
+    static Object instance(final Class<?> mixin) {
+        try {
+            // Get the unsafe.
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            final Object unsafe = theUnsafe.get(null);
+
+            // Allocate.
+            return unsafeClass.getMethod("allocateInstance", Class.class).invoke(unsafe, mixin);
+        } catch (final Throwable t) {
+            // Rethrow.
+            throw new RuntimeException("Ksyxis: Unable to allocate the mixin. (mixin: " + mixin + ')', t);
+        }
+    }
+
+    /**
+     * Finds the private mixin handler and adapts it to accept {@link Object} as the instance.
+     *
+     * @param mixin      Mixin class that declares the handler
+     * @param name       Handler name
+     * @param returnType Handler return type
+     * @param params     Handler parameter types
+     * @return Method handle of the handler with {@code (Object, params...)returnType} type
+     * @throws RuntimeException If unable to find the handler
+     */
+    @Contract(pure = true)
+    static MethodHandle handler(final Class<?> mixin, final String name, final Class<?> returnType, final Class<?>... params) {
+        try {
+            // Find and unlock.
+            final Method method = mixin.getDeclaredMethod(name, params);
+            method.setAccessible(true);
+
+            // Unreflect and adapt.
+            return MethodHandles.lookup().unreflect(method).asType(MethodType.methodType(returnType, Object.class, params));
+        } catch (final Throwable t) {
+            // Rethrow.
+            throw new RuntimeException("Ksyxis: Unable to find the handler. (mixin: " + mixin + ", name: " + name + ')', t);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis.jmh;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import ru.vidtu.ksyxis.compile.Constants;
+import ru.vidtu.ksyxis.mixin.LevelInjectMixin;
+import ru.vidtu.ksyxis.mixin.LevelMixin;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the legacy {@code World.isSpawnChunk} (Forge MCP mappings) with both spawn chunk check strategies.
+ * The benchmarks replicate the method body after the Mixin transformation with the spawn at {@code (0, 0)}.
+ * Compare the {@code gc.alloc.rate.norm} of {@link #constant()} and {@link #inject()} to see the allocations.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see LevelMixin
+ * @see LevelInjectMixin
+ */
+@ApiStatus.Internal
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@NullMarked
+public class LevelMixinBenchmark {
+    /**
+     * Uninitialized {@link LevelMixin} instance.
+     */
+    private static final Object CONSTANT_MIXIN = Handlers.instance(LevelMixin.class);
+
+    /**
+     * Handler of {@link LevelMixin} with the {@code (Object, int)int} type.
+     */
+    private static final MethodHandle CONSTANT_HANDLER = Handlers.handler(LevelMixin.class, "ksyxis_isSpawnChunk_range", int.class, int.class);
+
+    /**
+     * Uninitialized {@link LevelInjectMixin} instance.
+     */
+    private static final Object INJECT_MIXIN = Handlers.instance(LevelInjectMixin.class);
+
+    /**
+     * Handler of {@link LevelInjectMixin} with the {@code (Object, int, int, CallbackInfoReturnable)void} type.
+     */
+    private static final MethodHandle INJECT_HANDLER = Handlers.handler(LevelInjectMixin.class, "ksyxis_isSpawnChunk_head", void.class, int.class, int.class, CallbackInfoReturnable.class);
+
+    /**
+     * Counter used to vary the checked chunk position.
+     */
+    private int counter;
+
+    /**
+     * Creates a new benchmark.
+     *
+     * @apiNote Do not call, called by JMH
+     */
+    public LevelMixinBenchmark() {
+        // Empty.
+    }
+
+    /**
+     * Benchmarks the unmodified method. Used as a baseline.
+     *
+     * @return Whether the chunk is a spawn chunk
+     */
+    @Benchmark
+    public boolean vanilla() {
+        final int pos = this.counter++;
+        return isInRange(pos & 31, (pos >> 5) & 31, Constants.SPAWN_CHECK_BLOCK_RADIUS_V1);
+    }
+
+    /**
+     * Benchmarks the method with the {@link LevelMixin} allocation-free {@code @ModifyConstant}.
+     *
+     * @return Always {@code false}
+     * @throws Throwable If the handler throws
+     */
+    @Benchmark
+    public boolean constant() throws Throwable {
+        final int pos = this.counter++;
+        final int range = (int) CONSTANT_HANDLER.invokeExact(CONSTANT_MIXIN, Constants.SPAWN_CHECK_BLOCK_RADIUS_V1);
+        return isInRange(pos & 31, (pos >> 5) & 31, range);
+    }
+
+    /**
+     * Benchmarks the method with the {@link LevelInjectMixin} cancellable {@code @Inject}.
+     *
+     * @return Always {@code false}
+     * @throws Throwable If the handler throws
+     */
+    @Benchmark
+    public boolean inject() throws Throwable {
+        final int pos = this.counter++;
+        final int x = (pos & 31);
+        final int z = ((pos >> 5) & 31);
+        final CallbackInfoReturnable<Boolean> cir = new CallbackInfoReturnable<>("isSpawnChunk", true);
+        INJECT_HANDLER.invokeExact(INJECT_MIXIN, x, z, cir);
+        if (cir.isCancelled()) return cir.getReturnValueZ();
+        return isInRange(x, z, Constants.SPAWN_CHECK_BLOCK_RADIUS_V1);
+    }
+
+    /**
+     * Replicates the range check of the {@code World.isSpawnChunk} (Forge MCP mappings) method body.
+     *
+     * @param x     Chunk X
+     * @param z     Chunk Z
+     * @param range Range constant, possibly modified
+     * @return Whether the chunk is in range
+     */
+    private static boolean isInRange(final int x, final int z, final int range) {
+        final int i = ((x * 16) + 8);
+        final int j = ((z * 16) + 8);
+        return ((i >= -range) && (i <= range) && (j >= -range) && (j <= range));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis.jmh;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vidtu.ksyxis.compile.Constants;
+import ru.vidtu.ksyxis.mixin.MinecraftServerMixin;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@code @ModifyConstant} and {@code @ModifyVariable} handlers of {@link MinecraftServerMixin}.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see MinecraftServerMixin
+ */
+@ApiStatus.Internal
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@NullMarked
+public class MinecraftServerMixinBenchmark {
+    /**
+     * Uninitialized {@link MinecraftServerMixin} instance.
+     */
+    private static final Object MIXIN = Handlers.instance(MinecraftServerMixin.class);
+
+    /**
+     * {@code spawnChunkRadius} handler with the {@code (Object, int)int} type.
+     */
+    private static final MethodHandle SPAWN_CHUNK_RADIUS = Handlers.handler(MinecraftServerMixin.class, "ksyxis_prepareLevels_spawnChunkRadius_getInt", int.class, int.class);
+
+    /**
+     * {@link Constants#TICKET_LEVEL_V1} handler with the {@code (Object, int)int} type.
+     */
+    private static final MethodHandle ADD_REGION_TICKET = Handlers.handler(MinecraftServerMixin.class, "ksyxis_prepareLevels_addRegionTicket", int.class, int.class);
+
+    /**
+     * {@link Constants#CHUNK_AMOUNT_V1} handler with the {@code (Object, int)int} type.
+     */
+    private static final MethodHandle GET_TICKING_GENERATED = Handlers.handler(MinecraftServerMixin.class, "ksyxis_prepareLevels_getTickingGenerated", int.class, int.class);
+
+    /**
+     * {@link Constants#CHUNK_BLOCK_RADIUS_V1} handler with the {@code (Object, int)int} type.
+     */
+    private static final MethodHandle INITIAL_WORLD_CHUNK_LOAD_LOOP = Handlers.handler(MinecraftServerMixin.class, "ksyxis_initialWorldChunkLoad_loop", int.class, int.class);
+
+    /**
+     * Creates a new benchmark.
+     *
+     * @apiNote Do not call, called by JMH
+     */
+    public MinecraftServerMixinBenchmark() {
+        // Empty.
+    }
+
+    /**
+     * Benchmarks the {@code spawnChunkRadius} gamerule override.
+     *
+     * @return Overridden value
+     * @throws Throwable If the handler throws
+     */
+    @Benchmark
+    public int spawnChunkRadius() throws Throwable {
+        return (int) SPAWN_CHUNK_RADIUS.invokeExact(MIXIN, 2);
+    }
+
+    /**
+     * Benchmarks the spawn ticket level override.
+     *
+     * @return Overridden value
+     * @throws Throwable If the handler throws
+     */
+    @Benchmark
+    public int addRegionTicket() throws Throwable {
+        return (int) ADD_REGION_TICKET.invokeExact(MIXIN, Constants.TICKET_LEVEL_V1);
+    }
+
+    /**
+     * Benchmarks the waited chunk amount override.
+     *
+     * @return Overridden value
+     * @throws Throwable If the handler throws
+     */
+    @Benchmark
+    public int getTickingGenerated() throws Throwable {
+        return (int) GET_TICKING_GENERATED.invokeExact(MIXIN, Constants.CHUNK_AMOUNT_V1);
+    }
+
+    /**
+     * Benchmarks the legacy loop bounds override.
+     *
+     * @return Overridden value
+     * @throws Throwable If the handler throws
+     */
+    @Benchmark
+    public int initialWorldChunkLoadLoop() throws Throwable {
+        return (int) INITIAL_WORLD_CHUNK_LOAD_LOOP.invokeExact(MIXIN, Constants.CHUNK_BLOCK_RADIUS_V1);
+    }
+}
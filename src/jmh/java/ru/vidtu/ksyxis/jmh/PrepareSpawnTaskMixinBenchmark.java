@@ -0,0 +1,134 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis.jmh;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vidtu.ksyxis.compile.Constants;
+import ru.vidtu.ksyxis.mixin.PrepareSpawnTaskPreparingMixin;
+import ru.vidtu.ksyxis.mixin.PrepareSpawnTaskReadyMixin;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@code @ModifyConstant} handlers of {@link PrepareSpawnTaskPreparingMixin}
+ * and {@link PrepareSpawnTaskReadyMixin}. These run on each player join and each join task tick.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see PrepareSpawnTaskPreparingMixin
+ * @see PrepareSpawnTaskReadyMixin
+ */
+@ApiStatus.Internal
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@NullMarked
+public class PrepareSpawnTaskMixinBenchmark {
+    /**
+     * Uninitialized {@link PrepareSpawnTaskPreparingMixin} instance.
+     */
+    private static final Object PREPARING_MIXIN = Handlers.instance(PrepareSpawnTaskPreparingMixin.class);
+
+    /**
+     * Ticket handler of {@link PrepareSpawnTaskPreparingMixin} with the {@code (Object, int)int} type.
+     */
+    private static final MethodHandle PREPARING_TICKET = Handlers.handler(PrepareSpawnTaskPreparingMixin.class, "ksyxis_lambdaTick0_addTicketAndLoadWithRadius", int.class, int.class);
+
+    /**
+     * Uninitialized {@link PrepareSpawnTaskReadyMixin} instance.
+     */
+    private static final Object READY_MIXIN = Handlers.instance(PrepareSpawnTaskReadyMixin.class);
+
+    /**
+     * Ticket handler of {@link PrepareSpawnTaskReadyMixin} with the {@code (Object, int)int} type.
+     */
+    private static final MethodHandle READY_TICKET = Handlers.handler(PrepareSpawnTaskReadyMixin.class, "ksyxis_keepAlive_addTicketAndLoadWithRadius", int.class, int.class);
+
+    /**
+     * Entity wait handler of {@link PrepareSpawnTaskReadyMixin} with the {@code (Object, int)int} type.
+     */
+    private static final MethodHandle READY_WAIT = Handlers.handler(PrepareSpawnTaskReadyMixin.class, "ksyxis_spawn_waitForEntities", int.class, int.class);
+
+    /**
+     * Creates a new benchmark.
+     *
+     * @apiNote Do not call, called by JMH
+     */
+    public PrepareSpawnTaskMixinBenchmark() {
+        // Empty.
+    }
+
+    /**
+     * Benchmarks the {@code PrepareSpawnTask$Preparing} ticket override.
+     *
+     * @return Overridden value
+     * @throws Throwable If the handler throws
+     */
+    @Benchmark
+    public int preparingTicket() throws Throwable {
+        return (int) PREPARING_TICKET.invokeExact(PREPARING_MIXIN, Constants.TICKET_LEVEL_V3);
+    }
+
+    /**
+     * Benchmarks the {@code PrepareSpawnTask$Ready} ticket override.
+     *
+     * @return Overridden value
+     * @throws Throwable If the handler throws
+     */
+    @Benchmark
+    public int readyTicket() throws Throwable {
+        return (int) READY_TICKET.invokeExact(READY_MIXIN, Constants.TICKET_LEVEL_V3);
+    }
+
+    /**
+     * Benchmarks the {@code PrepareSpawnTask$Ready} entity wait override.
+     *
+     * @return Overridden value
+     * @throws Throwable If the handler throws
+     */
+    @Benchmark
+    public int readyWait() throws Throwable {
+        return (int) READY_WAIT.invokeExact(READY_MIXIN, Constants.TICKET_LEVEL_V3);
+    }
+}
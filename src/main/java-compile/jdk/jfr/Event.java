@@ -0,0 +1,50 @@
+package jdk.jfr;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Stub event class for Java Flight Recorder. Available since Java 11.
+ *
+ * @author VidTu
+ */
+public abstract class Event {
+    /**
+     * Creates a new event.
+     *
+     * @throws AssertionError Always
+     */
+    @Contract(value = "-> fail", pure = true)
+    protected Event() {
+        throw new AssertionError("Ksyxis: Compile-time code.");
+    }
+
+    /**
+     * Starts the timing of this event.
+     */
+    public final void begin() {
+        throw new AssertionError("Ksyxis: Compile-time code.");
+    }
+
+    /**
+     * Ends the timing of this event.
+     */
+    public final void end() {
+        throw new AssertionError("Ksyxis: Compile-time code.");
+    }
+
+    /**
+     * Writes the data of this event, if it's enabled.
+     */
+    public final void commit() {
+        throw new AssertionError("Ksyxis: Compile-time code.");
+    }
+
+    /**
+     * Checks whether this event is enabled and its duration is within the threshold.
+     *
+     * @return Whether the event should be committed
+     */
+    public final boolean shouldCommit() {
+        throw new AssertionError("Ksyxis: Compile-time code.");
+    }
+}
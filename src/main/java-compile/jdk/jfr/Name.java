@@ -0,0 +1,22 @@
+package jdk.jfr;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Stub event name annotation for Java Flight Recorder. Available since Java 11.
+ *
+ * @author VidTu
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.FIELD})
+public @interface Name {
+    /**
+     * Gets the value.
+     *
+     * @return Annotation value
+     */
+    String value();
+}
@@ -0,0 +1,7 @@
+/**
+ * Dummy Java Flight Recorder package. Not available in Java 8 used for compilation.
+ *
+ * @author VidTu
+ * @see jdk.jfr.Event
+ */
+package jdk.jfr;
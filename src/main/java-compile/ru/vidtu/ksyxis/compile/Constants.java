@@ -48,6 +48,14 @@ import org.jspecify.annotations.NullMarked;
 @ApiStatus.Internal
 @NullMarked
 public final class Constants {
+    /**
+     * Spawn chunk check range in versions {@code <1.14} measured in blocks.
+     * <p>
+     * Equals to {@code 128} blocks. ({@code 8} chunks to each side, inclusive)
+     */
+    @CompileTimeConstant
+    public static final int SPAWN_CHECK_BLOCK_RADIUS_V1 = 128;
+
     /**
      * Amount of spawn chunks in versions {@code <1.20.5}.
      * <p>
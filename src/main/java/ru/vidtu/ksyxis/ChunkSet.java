@@ -0,0 +1,199 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import ru.vidtu.ksyxis.compile.Variables;
+
+/**
+ * Immutable set of chunk positions packed into {@code long} keys. Uses open addressing over a primitive array,
+ * so lookups don't allocate or box, even with thousands of entries.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see Config#KEPT_CHUNKS
+ */
+@ApiStatus.Internal
+@NullMarked
+public final class ChunkSet {
+    /**
+     * Empty set.
+     */
+    public static final ChunkSet EMPTY = new ChunkSet(new long[0], 0);
+
+    /**
+     * Hash table, its length is a power of two. Empty slots are {@code 0}, so the {@code 0} key is stored in {@link #zero}.
+     */
+    private final long[] table;
+
+    /**
+     * Mask of the {@link #table} index.
+     */
+    private final int mask;
+
+    /**
+     * Whether the set contains the {@code 0} key. (chunk {@code 0, 0})
+     */
+    private final boolean zero;
+
+    /**
+     * Amount of the keys in the set.
+     */
+    private final int size;
+
+    /**
+     * Creates a new set.
+     *
+     * @param keys  Packed chunk keys, may contain duplicates, only first {@code count} are used
+     * @param count Amount of the keys to use
+     * @see #pack(int, int)
+     */
+    @Contract(pure = true)
+    public ChunkSet(final long[] keys, final int count) {
+        // Validate.
+        if (Variables.DEBUG_ASSERTS) {
+            assert (keys != null) : "Ksyxis: Parameter 'keys' is null.";
+            assert ((count >= 0) && (count <= keys.length)) : "Ksyxis: Parameter 'count' is not in the [0.." + keys.length + "] range. (count: " + count + ')';
+        }
+
+        // Allocate the table with the load factor of at most 0.5.
+        final int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, count) * 2 - 1) << 1);
+        final long[] table = new long[capacity];
+        final int mask = (capacity - 1);
+
+        // Insert.
+        /*non-final*/ boolean zero = false;
+        /*non-final*/ int size = 0;
+        for (/*non-final*/ int i = 0; i < count; i++) {
+            final long key = keys[i];
+            if (key == 0L) {
+                if (!zero) {
+                    zero = true;
+                    size++;
+                }
+                continue;
+            }
+            for (/*non-final*/ int slot = (hash(key) & mask); ; slot = ((slot + 1) & mask)) {
+                final long existing = table[slot];
+                if (existing == key) break;
+                if (existing != 0L) continue;
+                table[slot] = key;
+                size++;
+                break;
+            }
+        }
+
+        // Assign.
+        this.table = table;
+        this.mask = mask;
+        this.zero = zero;
+        this.size = size;
+    }
+
+    /**
+     * Packs the chunk position into the {@code long} key. Same as the game's {@code ChunkPos.asLong} (Mojang mappings).
+     *
+     * @param x Chunk X
+     * @param z Chunk Z
+     * @return Packed chunk key
+     */
+    @Contract(pure = true)
+    public static long pack(final int x, final int z) {
+        return ((x & 0xFFFFFFFFL) | ((z & 0xFFFFFFFFL) << 32));
+    }
+
+    /**
+     * Checks whether the set contains the chunk.
+     *
+     * @param x Chunk X
+     * @param z Chunk Z
+     * @return Whether the chunk is in the set
+     */
+    @Contract(pure = true)
+    public boolean contains(final int x, final int z) {
+        // Skip if empty.
+        if (this.size == 0) return false;
+
+        // Check the zero key.
+        final long key = pack(x, z);
+        if (key == 0L) return this.zero;
+
+        // Probe the table.
+        final long[] table = this.table;
+        final int mask = this.mask;
+        for (/*non-final*/ int slot = (hash(key) & mask); ; slot = ((slot + 1) & mask)) {
+            final long existing = table[slot];
+            if (existing == key) return true;
+            if (existing == 0L) return false;
+        }
+    }
+
+    /**
+     * Gets the amount of the chunks in the set.
+     *
+     * @return Amount of the chunks
+     */
+    @Contract(pure = true)
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether the set is empty.
+     *
+     * @return Whether there are no chunks in the set
+     */
+    @Contract(pure = true)
+    public boolean isEmpty() {
+        return (this.size == 0);
+    }
+
+    /**
+     * Mixes the key bits into the table index.
+     *
+     * @param key Packed chunk key
+     * @return Mixed hash
+     */
+    @Contract(pure = true)
+    private static int hash(final long key) {
+        final long mixed = (key * 0x9E3779B97F4A7C15L);
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    @Contract(pure = true)
+    @Override
+    public String toString() {
+        return "Ksyxis/ChunkSet{" +
+                "size=" + this.size +
+                '}';
+    }
+}
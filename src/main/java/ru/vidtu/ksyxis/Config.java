@@ -0,0 +1,482 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.CheckReturnValue;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import ru.vidtu.ksyxis.compile.Constants;
+import ru.vidtu.ksyxis.compile.Variables;
+import ru.vidtu.ksyxis.platform.KPlugin;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ksyxis configuration. Read once on first access from {@link #FILE}, never reloaded.
+ * <p>
+ * The file is a plain list of {@code key = value} lines, split at the first {@code =}. Lines
+ * starting with {@code #} are ignored. If the file doesn't exist, it is created with the defaults.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ */
+@ApiStatus.Internal
+@NullMarked
+public final class Config {
+    /**
+     * Path to the config file. Can be overridden with the {@code ksyxis.config} system property.
+     */
+    private static final Path FILE = Paths.get(System.getProperty("ksyxis.config", "config/ksyxis.properties"));
+
+    /**
+     * Config key for the legacy spawn chunk check strategy. Either {@code constant} or {@code inject}.
+     */
+    private static final String SPAWN_CHUNK_CHECK = "spawnChunkCheck";
+
+    /**
+     * Config key for the player area prefetch radius.
+     */
+    private static final String PREFETCH_RADIUS_KEY = "prefetchRadius";
+
+    /**
+     * Config key for the region file readahead budget.
+     */
+    private static final String READAHEAD_MEGABYTES_KEY = "readaheadMegabytes";
+
+    /**
+     * Config key for the kept chunks. The value is a list of {@code x,z} chunk positions separated by spaces.
+     */
+    private static final String KEEP_CHUNKS_KEY = "keepChunks";
+
+    /**
+     * Config key for the memory pressure limit.
+     */
+    private static final String MEMORY_PRESSURE_PERCENT_KEY = "memoryPressurePercent";
+
+    /**
+     * Whether the legacy spawn chunk check should be disabled via the cancellable {@code @Inject} (allocates
+     * a callback object on each call) instead of the allocation-free {@code @ModifyConstant}. Used before
+     * 1.13.2 (inclusive). Selected by {@link KPlugin#shouldApplyMixin(String, String)}. Forced to {@code true}
+     * if {@link #KEPT_CHUNKS} is not empty, because the constant can't keep individual chunks.
+     * <p>
+     * Equals to {@code false} by default. ({@code constant})
+     */
+    public static final boolean SPAWN_CHUNK_CHECK_INJECT;
+
+    /**
+     * Radius of the chunk area around each player that is prefetched from the region files
+     * after the world is loaded, in the {@code [0..32]} range. {@code 0} disables the prefetch. Used since 1.16 (inclusive).
+     * <p>
+     * Equals to {@code 0} (disabled) by default.
+     *
+     * @see Prefetch
+     */
+    public static final int PREFETCH_RADIUS;
+
+    /**
+     * Amount of the most recently modified region files, in megabytes, that is read after the world is
+     * loaded, in the {@code [0..65536]} range. {@code 0} disables the readahead. Used since 1.16 (inclusive).
+     * <p>
+     * Equals to {@code 0} by default.
+     *
+     * @see Prefetch#readahead(Object)
+     */
+    public static final int READAHEAD_MEGABYTES;
+
+    /**
+     * Chunks that are still reported as spawn chunks by the legacy spawn chunk check, so the game never unloads
+     * them once loaded. Used before 1.13.2 (inclusive), use {@code /forceload} in newer versions.
+     * <p>
+     * Empty by default.
+     *
+     * @see ru.vidtu.ksyxis.mixin.LevelInjectMixin
+     */
+    public static final ChunkSet KEPT_CHUNKS;
+
+    /**
+     * Old generation occupancy after a GC, in percent of its maximum, above which the {@link #KEPT_CHUNKS}
+     * are released, in the {@code [0..100]} range. {@code 0} disables the release. Used before 1.13.2 (inclusive),
+     * the chunk tickets of newer versions are never released.
+     * <p>
+     * Equals to {@code 0} by default.
+     *
+     * @see Pressure
+     */
+    public static final int MEMORY_PRESSURE_PERCENT;
+
+    /**
+     * Ticket values for all dimensions, indexed by the {@link Ticket#ordinal()}.
+     * <p>
+     * All equal to {@code 0} by default. (no spawn chunks, fastest join)
+     */
+    private static final int[] TICKET_VALUES;
+
+    /**
+     * Dimension-specific ticket values, indexed by the {@link Ticket#ordinal()}, mapped by the dimension ID.
+     * (e.g. {@code minecraft:overworld})
+     */
+    private static final List<Map<String, Integer>> TICKET_DIMENSION_VALUES;
+
+    static {
+        // Create a temporary logger. (there's no sense in keeping it after)
+        final Logger logger = LogManager.getLogger("Ksyxis/Config");
+
+        // Read the file.
+        final Map<String, String> values = read(logger);
+
+        // Parse the values.
+        /*non-final*/ boolean checkInject = false;
+        /*non-final*/ int prefetchRadius = 0;
+        /*non-final*/ int readahead = 0;
+        /*non-final*/ ChunkSet keptChunks = ChunkSet.EMPTY;
+        /*non-final*/ int pressurePercent = 0;
+        final Ticket[] tickets = Ticket.values();
+        final int[] ticketValues = new int[tickets.length];
+        final List<Map<String, Integer>> ticketDimensionValues = new ArrayList<>(tickets.length);
+        for (final Ticket ignored : tickets) {
+            ticketDimensionValues.add(new HashMap<>(4));
+        }
+        entries:
+        for (final Map.Entry<String, String> entry : values.entrySet()) {
+            final String key = entry.getKey();
+            final String value = entry.getValue();
+
+            // Parse the ticket values.
+            for (final Ticket ticket : tickets) {
+                final String ticketKey = ticket.key();
+                if (ticketKey.equals(key)) {
+                    // Parse the value for all dimensions.
+                    ticketValues[ticket.ordinal()] = parseInt(logger, key, value, ticket.max());
+                    continue entries;
+                }
+                if (ticket.dimensional() && key.startsWith(ticketKey) && (key.length() > (ticketKey.length() + 1)) && (key.charAt(ticketKey.length()) == '.')) {
+                    // Parse the dimension value.
+                    ticketDimensionValues.get(ticket.ordinal()).put(key.substring(ticketKey.length() + 1), parseInt(logger, key, value, ticket.max()));
+                    continue entries;
+                }
+            }
+
+            // Parse the other values.
+            if (SPAWN_CHUNK_CHECK.equals(key)) {
+                // Parse the strategy.
+                if ("inject".equals(value)) {
+                    checkInject = true;
+                } else if (!"constant".equals(value)) {
+                    logger.warn("Ksyxis: Spawn chunk check is neither 'constant' nor 'inject', using 'constant'. (key: {}, value: {}, file: {})", new Object[]{key, value, FILE}); // <- Array for compat with older Log4j2.
+                }
+            } else if (PREFETCH_RADIUS_KEY.equals(key)) {
+                // Parse the prefetch radius.
+                prefetchRadius = parseInt(logger, key, value, Constants.MAXIMUM_SPAWN_CHUNKS_V2);
+            } else if (READAHEAD_MEGABYTES_KEY.equals(key)) {
+                // Parse the readahead budget.
+                readahead = parseInt(logger, key, value, 65536);
+            } else if (KEEP_CHUNKS_KEY.equals(key)) {
+                // Parse the kept chunks.
+                keptChunks = parseChunks(logger, key, value);
+            } else if (MEMORY_PRESSURE_PERCENT_KEY.equals(key)) {
+                // Parse the memory pressure limit.
+                pressurePercent = parseInt(logger, key, value, 100);
+            } else {
+                // Log.
+                logger.warn("Ksyxis: Unknown config key, ignoring. (key: {}, file: {})", new Object[]{key, FILE}); // <- Array for compat with older Log4j2.
+            }
+        }
+
+        // Force the inject strategy for the kept chunks.
+        if (!checkInject && !keptChunks.isEmpty()) {
+            logger.info("Ksyxis: Kept chunks are set, using 'inject' spawn chunk check. (key: {}, file: {})", new Object[]{KEEP_CHUNKS_KEY, FILE}); // <- Array for compat with older Log4j2.
+            checkInject = true;
+        }
+
+        // Flush to constants.
+        SPAWN_CHUNK_CHECK_INJECT = checkInject;
+        PREFETCH_RADIUS = prefetchRadius;
+        READAHEAD_MEGABYTES = readahead;
+        KEPT_CHUNKS = keptChunks;
+        MEMORY_PRESSURE_PERCENT = pressurePercent;
+        TICKET_VALUES = ticketValues;
+        for (/*non-final*/ int i = 0; i < tickets.length; i++) {
+            final Map<String, Integer> dimensionValues = ticketDimensionValues.get(i);
+            ticketDimensionValues.set(i, (dimensionValues.isEmpty() ? Collections.<String, Integer>emptyMap() : Collections.unmodifiableMap(dimensionValues)));
+        }
+        TICKET_DIMENSION_VALUES = Collections.unmodifiableList(ticketDimensionValues);
+
+        // Log.
+        if (Variables.DEBUG_LOGS) {
+            logger.info(KPlugin.MARKER, "Ksyxis: Config loaded. (file: {}, spawnChunkCheckInject: {}, prefetchRadius: {}, readaheadMegabytes: {}, keptChunks: {}, memoryPressurePercent: {}, tickets: {})", new Object[]{FILE, SPAWN_CHUNK_CHECK_INJECT, PREFETCH_RADIUS, READAHEAD_MEGABYTES, KEPT_CHUNKS.size(), MEMORY_PRESSURE_PERCENT, ticketsToString()}); // <- Array for compat with older Log4j2.
+        } else {
+            logger.info("Ksyxis: Config loaded. (spawnChunkCheckInject: {}, prefetchRadius: {}, readaheadMegabytes: {}, keptChunks: {}, memoryPressurePercent: {}, tickets: {})", new Object[]{SPAWN_CHUNK_CHECK_INJECT, PREFETCH_RADIUS, READAHEAD_MEGABYTES, KEPT_CHUNKS.size(), MEMORY_PRESSURE_PERCENT, ticketsToString()}); // <- Array for compat with older Log4j2.
+        }
+    }
+
+    /**
+     * An instance of this class cannot be created.
+     *
+     * @throws AssertionError Always
+     * @deprecated Always throws
+     */
+    @ApiStatus.ScheduledForRemoval
+    @Deprecated
+    @Contract(value = "-> fail", pure = true)
+    private Config() {
+        if (Variables.DEBUG_ASSERTS) {
+            throw new AssertionError("Ksyxis: No instances.");
+        }
+    }
+
+    /**
+     * Gets the configured value of the ticket for the dimension. For {@link Ticket#START}, it is the radius in
+     * the {@code spawnChunkRadius} gamerule units in all versions, converted via {@link #startDistance(int)}.
+     * For {@link Ticket#PLAYER_JOIN}, it is used as the join ticket level.
+     *
+     * @param ticket    Ticket type
+     * @param dimension Dimension ID (e.g. {@code minecraft:overworld}), {@code null} if unknown
+     * @return Configured value for the dimension, in the {@code [0..max]} range, {@code 0} by default
+     * @see Ticket#max()
+     */
+    @Contract(pure = true)
+    public static int ticket(final Ticket ticket, @Nullable final String dimension) {
+        // Use the all-dimension value if dimension is unknown.
+        final int ordinal = ticket.ordinal(); // Implicit NPE for 'ticket'
+        if (dimension == null) return TICKET_VALUES[ordinal];
+
+        // Get the dimension-specific value, or use the all-dimension value.
+        final Integer value = TICKET_DIMENSION_VALUES.get(ordinal).get(dimension);
+        return ((value != null) ? value : TICKET_VALUES[ordinal]);
+    }
+
+    /**
+     * Converts the spawn chunk radius into the distance of the {@code TicketType.START} (Mojang mappings) ticket.
+     * The radius uses the {@code spawnChunkRadius} gamerule units: the game adds the ticket with the
+     * {@code radius + 1} distance since 1.20.5 (inclusive), so the vanilla {@link Constants#TICKET_LEVEL_V1}
+     * distance before 1.20.4 (inclusive) equals to the radius of {@code 10}.
+     *
+     * @param radius Spawn chunk radius, {@code 0} to remove the spawn chunks
+     * @return Ticket distance, {@code 0} if no ticket should be added
+     * @see #startChunks(int)
+     */
+    @Contract(pure = true)
+    public static int startDistance(final int radius) {
+        return ((radius > 0) ? (radius + 1) : 0);
+    }
+
+    /**
+     * Gets the amount of the chunks made ticking by the {@code TicketType.START} (Mojang mappings) ticket.
+     * A ticket with the distance {@code D} makes {@code (2D-1)^2} chunks ticking. The game waits for this
+     * exact amount in {@code MinecraftServer.prepareLevels}, so it must match the added ticket.
+     *
+     * @param distance Ticket distance, {@code 0} or {@code 1} if no ticket is added
+     * @return Amount of the ticking chunks, {@code 0} if no ticket is added
+     * @see #startDistance(int)
+     */
+    @Contract(pure = true)
+    public static int startChunks(final int distance) {
+        if (distance <= 1) return 0;
+        final int diameter = ((distance * 2) - 1);
+        return (diameter * diameter);
+    }
+
+    /**
+     * Formats the configured ticket values for logging.
+     *
+     * @return Ticket values, e.g. {@code {START=0 {minecraft:overworld=2}, PLAYER_JOIN=0 {}}}
+     */
+    @Contract(pure = true)
+    private static String ticketsToString() {
+        final StringBuilder builder = new StringBuilder("{");
+        for (final Ticket ticket : Ticket.values()) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(ticket).append('=').append(TICKET_VALUES[ticket.ordinal()]).append(' ').append(TICKET_DIMENSION_VALUES.get(ticket.ordinal()));
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Parses the integer config value, clamping it into the {@code [0..max]} range.
+     *
+     * @param logger Logger to report invalid values to
+     * @param key    Config key, used for logging
+     * @param value  Config value to parse
+     * @param max    Maximum allowed value
+     * @return Parsed value, {@code 0} if invalid
+     */
+    @CheckReturnValue
+    private static int parseInt(final Logger logger, final String key, final String value, final int max) {
+        try {
+            // Parse and clamp.
+            final int parsed = Integer.parseInt(value);
+            if ((parsed >= 0) && (parsed <= max)) return parsed;
+            logger.warn("Ksyxis: Config value is not in the [0.." + max + "] range, clamping. (key: {}, value: {}, file: {})", new Object[]{key, value, FILE}); // <- Array for compat with older Log4j2.
+            return Math.max(0, Math.min(parsed, max));
+        } catch (final NumberFormatException nfe) {
+            // Log.
+            logger.warn("Ksyxis: Config value is not a number, using 0. (key: {}, value: {}, file: {})", new Object[]{key, value, FILE, nfe}); // <- Array for compat with older Log4j2.
+            return 0;
+        }
+    }
+
+    /**
+     * Parses the list of {@code x,z} chunk positions separated by spaces, skipping invalid entries.
+     *
+     * @param logger Logger to report invalid entries to
+     * @param key    Config key, used for logging
+     * @param value  Config value to parse
+     * @return Parsed chunk set, {@link ChunkSet#EMPTY} if there are no valid entries
+     */
+    @CheckReturnValue
+    private static ChunkSet parseChunks(final Logger logger, final String key, final String value) {
+        // Parse the entries.
+        final String[] entries = value.split("\\s+");
+        final long[] keys = new long[entries.length];
+        /*non-final*/ int count = 0;
+        for (final String entry : entries) {
+            // Skip empty.
+            if (entry.isEmpty()) continue;
+
+            // Split at the ",".
+            final int separator = entry.indexOf(',');
+            try {
+                if (separator <= 0) throw new NumberFormatException("No ',' separator.");
+                final int x = Integer.parseInt(entry.substring(0, separator));
+                final int z = Integer.parseInt(entry.substring(separator + 1));
+                keys[count++] = ChunkSet.pack(x, z);
+            } catch (final NumberFormatException nfe) {
+                // Log.
+                logger.warn("Ksyxis: Config chunk is not an 'x,z' position, ignoring. (key: {}, entry: {}, file: {})", new Object[]{key, entry, FILE, nfe}); // <- Array for compat with older Log4j2.
+            }
+        }
+
+        // Create the set.
+        return ((count == 0) ? ChunkSet.EMPTY : new ChunkSet(keys, count));
+    }
+
+    /**
+     * Reads the {@link #FILE}. Creates it with the default values if it doesn't exist.
+     *
+     * @param logger Logger to report errors to
+     * @return Read key-value pairs, empty map on error or if the file didn't exist
+     */
+    @CheckReturnValue
+    private static Map<String, String> read(final Logger logger) {
+        // Read the file.
+        final Map<String, String> values = new HashMap<>(4);
+        try (final BufferedReader reader = Files.newBufferedReader(FILE, StandardCharsets.UTF_8)) {
+            for (/*non-final*/ String line; (line = reader.readLine()) != null; ) {
+                // Skip empty lines and comments.
+                line = line.trim();
+                if (line.isEmpty() || (line.charAt(0) == '#')) continue;
+
+                // Split at the first "=".
+                final int separator = line.indexOf('=');
+                if (separator <= 0) {
+                    logger.warn("Ksyxis: Malformed config line, ignoring. (line: {}, file: {})", new Object[]{line, FILE}); // <- Array for compat with older Log4j2.
+                    continue;
+                }
+                values.put(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+            }
+            return values;
+        } catch (final NoSuchFileException nsfe) {
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && logger.isDebugEnabled(KPlugin.MARKER)) {
+                logger.debug(KPlugin.MARKER, "Ksyxis: No config found, writing the defaults... (file: {})", new Object[]{FILE, nsfe}); // <- Array for compat with older Log4j2.
+            }
+        } catch (final Throwable t) {
+            // Log.
+            logger.error("Ksyxis: Unable to read the config, using the defaults. (file: {})", new Object[]{FILE, t}); // <- Array for compat with older Log4j2.
+            return values;
+        }
+
+        // Write the defaults.
+        try {
+            final Path parent = FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (final BufferedWriter writer = Files.newBufferedWriter(FILE, StandardCharsets.UTF_8)) {
+                writer.write("# Ksyxis configuration. Read once on game start.\n" +
+                        "#\n" +
+                        "# Spawn chunk radius for every dimension in the [0.." + Constants.MAXIMUM_SPAWN_CHUNKS_V2 + "] range. Used since 1.14 (inclusive).\n" +
+                        "# Uses the spawnChunkRadius gamerule units in all versions: radius R keeps (2R+1)x(2R+1) chunks loaded.\n" +
+                        "# Ksyxis uses 0 to remove the spawn chunks. Vanilla uses the gamerule (2 by default) since 1.20.5 and 10 before.\n" +
+                        Ticket.START.key() + " = 0\n" +
+                        "#\n" +
+                        "# Spawn chunk radius for a specific dimension, overrides the value above. For example:\n" +
+                        "# " + Ticket.START.key() + ".minecraft:overworld = 2\n" +
+                        "#\n" +
+                        "# Chunk ticket level added and waited for when the player joins, in the [0.." + Constants.TICKET_LEVEL_V3 + "] range. Used since 1.21.9 (inclusive).\n" +
+                        "# Ksyxis uses 0 for the fastest join. Vanilla uses " + Constants.TICKET_LEVEL_V3 + ", higher values load more chunks before the player spawns.\n" +
+                        "# This is a fixed level, it is not raised after the join. The rest of the view distance loads as usual once the player spawns.\n" +
+                        Ticket.PLAYER_JOIN.key() + " = 0\n" +
+                        "#\n" +
+                        "# Radius of the chunk area around each player to read from the region files after the world is loaded,\n" +
+                        "# in the [0.." + Constants.MAXIMUM_SPAWN_CHUNKS_V2 + "] range. Warms up the OS file cache for reconnecting players. 0 disables it. Used since 1.16 (inclusive).\n" +
+                        PREFETCH_RADIUS_KEY + " = 0\n" +
+                        "#\n" +
+                        "# Megabytes of the most recently modified region files to read in the background after the world is loaded,\n" +
+                        "# in the [0..65536] range. Helps with slow (e.g. network-attached) disks. 0 disables it. Used since 1.16 (inclusive).\n" +
+                        READAHEAD_MEGABYTES_KEY + " = 0\n" +
+                        "#\n" +
+                        "# Chunks to keep loaded once loaded, as 'x,z' chunk positions separated by spaces. Used before 1.13.2 (inclusive),\n" +
+                        "# use /forceload in newer versions. Setting any chunks forces the 'inject' spawn chunk check below. For example:\n" +
+                        "# " + KEEP_CHUNKS_KEY + " = 0,0 0,1 -1,0\n" +
+                        "#\n" +
+                        "# Old generation usage after a GC, in percent of the maximum heap, above which the chunks above are released\n" +
+                        "# until the usage falls again, in the [0..100] range. 0 disables it. Used before 1.13.2 (inclusive),\n" +
+                        "# newer versions never release the spawn, portal, or forced chunk tickets.\n" +
+                        MEMORY_PRESSURE_PERCENT_KEY + " = 0\n" +
+                        "#\n" +
+                        "# How the spawn chunk check is disabled before 1.13.2 (inclusive). Either 'constant' or 'inject'.\n" +
+                        "# 'constant' is allocation-free, 'inject' is the old way, in case 'constant' doesn't work with other mods.\n" +
+                        SPAWN_CHUNK_CHECK + " = constant\n");
+            }
+        } catch (final Throwable t) {
+            // Log.
+            logger.warn("Ksyxis: Unable to write the default config. (file: {})", new Object[]{FILE, t}); // <- Array for compat with older Log4j2.
+        }
+        return values;
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.UnknownNullability;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import ru.vidtu.ksyxis.compile.Variables;
+import ru.vidtu.ksyxis.platform.KPlugin;
+
+import java.lang.reflect.Method;
+
+/**
+ * Helper for resolving the dimension IDs of levels without referencing the game classes.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ */
+@ApiStatus.Internal
+@NullMarked
+public final class Dimensions {
+    /**
+     * ID of the overworld dimension.
+     */
+    public static final String OVERWORLD = "minecraft:overworld";
+
+    /**
+     * Logger for this class.
+     */
+    @UnknownNullability
+    private static final Logger LOGGER = (Variables.DEBUG_LOGS ? LogManager.getLogger("Ksyxis/Dimensions") : null);
+
+    /**
+     * Names of the {@code Level.dimension()} (Mojang mappings) method in all supported mappings.
+     */
+    private static final String[] DIMENSION_METHODS = {
+            // Deobfuscated.
+            "dimension", // Official Mojang
+            "getRegistryKey", // Fabric Yarn
+
+            // Obfuscated.
+            "method_27983", // Fabric Intermediary
+            "m_46472_", // Forge SRG (1.17.x+)
+            "func_234923_W_" // Forge SRG (1.16.x)
+    };
+
+    /**
+     * Names of the {@code MinecraftServer.overworld()} (Mojang mappings) method in all supported mappings.
+     */
+    private static final String[] OVERWORLD_METHODS = {
+            // Deobfuscated.
+            "overworld", // Official Mojang
+            "getOverworld", // Fabric Yarn
+
+            // Obfuscated.
+            "method_30002", // Fabric Intermediary
+            "m_129783_", // Forge SRG (1.17.x+)
+            "func_241755_D_" // Forge SRG (1.16.x)
+    };
+
+    /**
+     * Cached {@code Level.dimension()} (Mojang mappings) method, {@code null} if not yet found.
+     */
+    @Nullable
+    private static volatile Method dimensionMethod;
+
+    /**
+     * Cached {@code MinecraftServer.overworld()} (Mojang mappings) method, {@code null} if not yet found.
+     */
+    @Nullable
+    private static volatile Method overworldMethod;
+
+    /**
+     * An instance of this class cannot be created.
+     *
+     * @throws AssertionError Always
+     * @deprecated Always throws
+     */
+    @ApiStatus.ScheduledForRemoval
+    @Deprecated
+    @Contract(value = "-> fail", pure = true)
+    private Dimensions() {
+        if (Variables.DEBUG_ASSERTS) {
+            throw new AssertionError("Ksyxis: No instances.");
+        }
+    }
+
+    /**
+     * Gets the dimension ID of the level. Used since 1.16 (inclusive).
+     *
+     * @param level Level instance to get the ID of
+     * @return Dimension ID (e.g. {@code minecraft:overworld}), {@code null} if unknown
+     */
+    @Nullable
+    public static String of(final Object level) {
+        // Validate.
+        if (Variables.DEBUG_ASSERTS) {
+            assert (level != null) : "Ksyxis: Parameter 'level' is null.";
+        }
+
+        // Use the cached method.
+        final Method cached = dimensionMethod;
+        if (cached != null) {
+            return invoke(cached, level);
+        }
+
+        // Search all methods.
+        final Class<?> levelClass = level.getClass(); // Implicit NPE for 'level'
+        for (final String name : DIMENSION_METHODS) {
+            try {
+                // Attempt to find and invoke.
+                final Method method = levelClass.getMethod(name);
+                final String dimension = invoke(method, level);
+                if (dimension == null) continue;
+
+                // Cache.
+                dimensionMethod = method;
+
+                // Log. (**DEBUG**)
+                if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                    LOGGER.debug(KPlugin.MARKER, "Ksyxis: Found dimension method. (levelClass: {}, method: {}, dimension: {})", new Object[]{levelClass, method, dimension}); // <- Array for compat with older Log4j2.
+                }
+
+                // Done.
+                return dimension;
+            } catch (final Throwable t) {
+                // Log. (**TRACE**)
+                if (Variables.DEBUG_LOGS && LOGGER.isTraceEnabled(KPlugin.MARKER)) {
+                    LOGGER.trace(KPlugin.MARKER, "Ksyxis: Method error, skipping in Dimensions. (levelClass: {}, name: {})", new Object[]{levelClass, name, t}); // <- Array for compat with older Log4j2.
+                }
+            }
+        }
+
+        // Not found.
+        return null;
+    }
+
+    /**
+     * Gets the overworld level of the server. Pass it to {@link #of(Object)} to get the ID the same way
+     * as for any other level, so the server and the level agree. Used since 1.16 (inclusive).
+     *
+     * @param server Server instance to get the overworld of
+     * @return Overworld level, {@code null} if unknown
+     */
+    @Nullable
+    public static Object overworld(final Object server) {
+        // Validate.
+        if (Variables.DEBUG_ASSERTS) {
+            assert (server != null) : "Ksyxis: Parameter 'server' is null.";
+        }
+
+        // Use the cached method.
+        final Method cached = overworldMethod;
+        if (cached != null) {
+            return level(cached, server);
+        }
+
+        // Search all methods.
+        final Class<?> serverClass = server.getClass(); // Implicit NPE for 'server'
+        for (final String name : OVERWORLD_METHODS) {
+            try {
+                // Attempt to find and invoke.
+                final Method method = serverClass.getMethod(name);
+                final Object level = level(method, server);
+                if (level == null) continue;
+
+                // Cache.
+                overworldMethod = method;
+
+                // Log. (**DEBUG**)
+                if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                    LOGGER.debug(KPlugin.MARKER, "Ksyxis: Found overworld method. (serverClass: {}, method: {}, level: {})", new Object[]{serverClass, method, level}); // <- Array for compat with older Log4j2.
+                }
+
+                // Done.
+                return level;
+            } catch (final Throwable t) {
+                // Log. (**TRACE**)
+                if (Variables.DEBUG_LOGS && LOGGER.isTraceEnabled(KPlugin.MARKER)) {
+                    LOGGER.trace(KPlugin.MARKER, "Ksyxis: Method error, skipping in Dimensions. (serverClass: {}, name: {})", new Object[]{serverClass, name, t}); // <- Array for compat with older Log4j2.
+                }
+            }
+        }
+
+        // Not found.
+        return null;
+    }
+
+    /**
+     * Invokes the overworld method.
+     *
+     * @param method Overworld method to invoke
+     * @param server Server to invoke the method on
+     * @return Overworld level, {@code null} on error
+     */
+    @Nullable
+    private static Object level(final Method method, final Object server) {
+        try {
+            // Invoke.
+            return method.invoke(server);
+        } catch (final Throwable t) {
+            // Log. (**TRACE**)
+            if (Variables.DEBUG_LOGS && LOGGER.isTraceEnabled(KPlugin.MARKER)) {
+                LOGGER.trace(KPlugin.MARKER, "Ksyxis: Unable to invoke the overworld method. (method: {}, server: {})", new Object[]{method, server, t}); // <- Array for compat with older Log4j2.
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Invokes the dimension method and parses the ID from the {@code ResourceKey} string.
+     * The {@code ResourceKey} string looks like {@code ResourceKey[minecraft:dimension / minecraft:overworld]}.
+     *
+     * @param method Dimension method to invoke
+     * @param level  Level to invoke the method on
+     * @return Dimension ID, {@code null} on error
+     */
+    @Nullable
+    private static String invoke(final Method method, final Object level) {
+        try {
+            // Invoke.
+            final Object key = method.invoke(level);
+            if (key == null) return null;
+
+            // Parse.
+            final String raw = key.toString();
+            final int start = raw.lastIndexOf(" / ");
+            final int end = raw.lastIndexOf(']');
+            return (((start >= 0) && (end > start)) ? raw.substring(start + 3, end) : raw);
+        } catch (final Throwable t) {
+            // Log. (**TRACE**)
+            if (Variables.DEBUG_LOGS && LOGGER.isTraceEnabled(KPlugin.MARKER)) {
+                LOGGER.trace(KPlugin.MARKER, "Ksyxis: Unable to invoke the dimension method. (method: {}, level: {})", new Object[]{method, level, t}); // <- Array for compat with older Log4j2.
+            }
+            return null;
+        }
+    }
+}
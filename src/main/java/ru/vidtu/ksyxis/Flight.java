@@ -0,0 +1,256 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import ru.vidtu.ksyxis.compile.Variables;
+import ru.vidtu.ksyxis.platform.KPlugin;
+
+/**
+ * Java Flight Recorder events emitter. The events are loaded via reflection from
+ * {@code ru.vidtu.ksyxis.jfr} package only if the JFR is available. (Java 11+)
+ * Does nothing otherwise.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ */
+@ApiStatus.Internal
+@NullMarked
+public final class Flight {
+    /**
+     * Current recorder, {@code null} if the JFR is not available.
+     */
+    @Nullable
+    private static final Recorder RECORDER;
+
+    static {
+        // Create a temporary logger. (there's no sense in keeping it after)
+        final Logger logger = LogManager.getLogger("Ksyxis/Flight");
+
+        // Load the recorder.
+        /*non-final*/ Recorder recorder;
+        try {
+            // Check the JFR.
+            Class.forName("jdk.jfr.Event", false, Flight.class.getClassLoader());
+
+            // Create the recorder.
+            recorder = (Recorder) Class.forName("ru.vidtu.ksyxis.jfr.JfrRecorder").getConstructor().newInstance();
+
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && logger.isDebugEnabled(KPlugin.MARKER)) {
+                logger.debug(KPlugin.MARKER, "Ksyxis: JFR events are available. (recorder: {})", new Object[]{recorder}); // <- Array for compat with older Log4j2.
+            }
+        } catch (final Throwable t) {
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && logger.isDebugEnabled(KPlugin.MARKER)) {
+                logger.debug(KPlugin.MARKER, "Ksyxis: JFR events are not available.", new Object[]{t}); // <- Array for compat with older Log4j2.
+            }
+
+            // No JFR.
+            recorder = null;
+        }
+
+        // Flush to constant.
+        RECORDER = recorder;
+    }
+
+    /**
+     * An instance of this class cannot be created.
+     *
+     * @throws AssertionError Always
+     * @deprecated Always throws
+     */
+    @ApiStatus.ScheduledForRemoval
+    @Deprecated
+    @Contract(value = "-> fail", pure = true)
+    private Flight() {
+        if (Variables.DEBUG_ASSERTS) {
+            throw new AssertionError("Ksyxis: No instances.");
+        }
+    }
+
+    /**
+     * Begins the {@code prepareLevels} event.
+     *
+     * @return Begun event, {@code null} if the JFR is not available
+     * @see #prepareLevelsEnd(Object, int)
+     */
+    @Contract(pure = true)
+    @Nullable
+    public static Object prepareLevelsBegin() {
+        final Recorder recorder = RECORDER;
+        return ((recorder != null) ? recorder.prepareLevelsBegin() : null);
+    }
+
+    /**
+     * Ends and commits the {@code prepareLevels} event.
+     *
+     * @param event  Event from {@link #prepareLevelsBegin()}, {@code null} if none
+     * @param radius Configured overworld spawn chunk radius
+     */
+    public static void prepareLevelsEnd(@Nullable final Object event, final int radius) {
+        final Recorder recorder = RECORDER;
+        if ((recorder == null) || (event == null)) return;
+        recorder.prepareLevelsEnd(event, radius);
+    }
+
+    /**
+     * Commits the ticket override event. Only committed for the added tickets, not for the removed ones.
+     *
+     * @param handler  Name of the handler that has overridden the ticket
+     * @param oldLevel Original ticket level
+     * @param newLevel Overridden ticket level
+     */
+    public static void ticket(final String handler, final int oldLevel, final int newLevel) {
+        final Recorder recorder = RECORDER;
+        if (recorder == null) return;
+        recorder.ticket(handler, oldLevel, newLevel);
+    }
+
+    /**
+     * Begins the player chunks wait event.
+     *
+     * @param oldLevel Original waited-for ticket level
+     * @param newLevel Overridden waited-for ticket level
+     * @return Begun event, {@code null} if the JFR is not available
+     * @see #playerChunksEnd(Object)
+     */
+    @Contract(pure = true)
+    @Nullable
+    public static Object playerChunksBegin(final int oldLevel, final int newLevel) {
+        final Recorder recorder = RECORDER;
+        return ((recorder != null) ? recorder.playerChunksBegin(oldLevel, newLevel) : null);
+    }
+
+    /**
+     * Ends and commits the player chunks wait event.
+     *
+     * @param event Event from {@link #playerChunksBegin(int, int)}, {@code null} if none
+     */
+    public static void playerChunksEnd(@Nullable final Object event) {
+        final Recorder recorder = RECORDER;
+        if ((recorder == null) || (event == null)) return;
+        recorder.playerChunksEnd(event);
+    }
+
+    /**
+     * Begins the client world loading wait event, after the removed delay.
+     *
+     * @param delay Removed delay in milliseconds
+     * @return Begun event, {@code null} if the JFR is not available
+     * @see #delayEnd(Object)
+     */
+    @Contract(pure = true)
+    @Nullable
+    public static Object delayBegin(final long delay) {
+        final Recorder recorder = RECORDER;
+        return ((recorder != null) ? recorder.delayBegin(delay) : null);
+    }
+
+    /**
+     * Ends and commits the client world loading wait event.
+     *
+     * @param event Event from {@link #delayBegin(long)}, {@code null} if none
+     */
+    public static void delayEnd(@Nullable final Object event) {
+        final Recorder recorder = RECORDER;
+        if ((recorder == null) || (event == null)) return;
+        recorder.delayEnd(event);
+    }
+
+    /**
+     * Recorder of the JFR events. Implemented in {@code ru.vidtu.ksyxis.jfr} to prevent loading JFR classes on Java 8.
+     *
+     * @author VidTu
+     * @apiNote Internal use only
+     */
+    @ApiStatus.Internal
+    public interface Recorder {
+        /**
+         * Begins the {@code prepareLevels} event.
+         *
+         * @return Begun event
+         */
+        Object prepareLevelsBegin();
+
+        /**
+         * Ends and commits the {@code prepareLevels} event.
+         *
+         * @param event  Event from {@link #prepareLevelsBegin()}
+         * @param radius Configured overworld spawn chunk radius
+         */
+        void prepareLevelsEnd(Object event, int radius);
+
+        /**
+         * Commits the ticket override event.
+         *
+         * @param handler  Name of the handler that has overridden the ticket
+         * @param oldLevel Original ticket level
+         * @param newLevel Overridden ticket level
+         */
+        void ticket(String handler, int oldLevel, int newLevel);
+
+        /**
+         * Begins the player chunks wait event.
+         *
+         * @param oldLevel Original waited-for ticket level
+         * @param newLevel Overridden waited-for ticket level
+         * @return Begun event
+         */
+        Object playerChunksBegin(int oldLevel, int newLevel);
+
+        /**
+         * Ends and commits the player chunks wait event.
+         *
+         * @param event Event from {@link #playerChunksBegin(int, int)}
+         */
+        void playerChunksEnd(Object event);
+
+        /**
+         * Begins the client world loading wait event, after the removed delay.
+         *
+         * @param delay Removed delay in milliseconds
+         * @return Begun event
+         */
+        Object delayBegin(long delay);
+
+        /**
+         * Ends and commits the client world loading wait event.
+         *
+         * @param event Event from {@link #delayBegin(long)}
+         */
+        void delayEnd(Object event);
+    }
+}
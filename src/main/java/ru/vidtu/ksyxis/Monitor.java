@@ -0,0 +1,320 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import ru.vidtu.ksyxis.compile.Constants;
+import ru.vidtu.ksyxis.compile.Variables;
+import ru.vidtu.ksyxis.platform.KPlugin;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ksyxis counters and state, exposed via JMX as {@code ru.vidtu.ksyxis:type=Monitor}.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see MonitorMXBean
+ */
+@ApiStatus.Internal
+@NullMarked
+public final class Monitor implements MonitorMXBean {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger("Ksyxis/Monitor");
+
+    /**
+     * Estimated amount of chunks that were not loaded.
+     */
+    private static final LongAdder CHUNKS_AVOIDED = new LongAdder();
+
+    /**
+     * Timestamps of the last added spawn chunk tickets in milliseconds since the JVM start, mapped by the dimension ID.
+     * These are points in time, not durations.
+     */
+    private static final Map<String, Long> DIMENSION_SPAWN_TICKET_UPTIMES = new ConcurrentHashMap<>(4);
+
+    /**
+     * Distances of the last added spawn chunk tickets, mapped by the dimension ID.
+     */
+    private static final Map<String, Integer> DIMENSION_SPAWN_DISTANCES = new ConcurrentHashMap<>(4);
+
+    /**
+     * Whether the monitor has been registered.
+     */
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    /**
+     * Start of the current {@code prepareLevels} in {@link System#nanoTime()}.
+     */
+    private static volatile long prepareLevelsStart;
+
+    /**
+     * Duration of the last {@code prepareLevels} in milliseconds, {@code -1} if not yet finished.
+     */
+    private static volatile long prepareLevelsMillis = -1L;
+
+    /**
+     * Creates a new monitor.
+     *
+     * @see #register()
+     */
+    @Contract(pure = true)
+    private Monitor() {
+        // Empty.
+    }
+
+    /**
+     * Registers the monitor on the platform MBean server, if not yet registered.
+     */
+    public static void register() {
+        // Register only once.
+        if (!REGISTERED.compareAndSet(false, true)) return;
+        try {
+            // Register.
+            final ObjectName name = new ObjectName("ru.vidtu.ksyxis:type=Monitor");
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new Monitor(), name);
+
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                LOGGER.debug(KPlugin.MARKER, "Ksyxis: Registered JMX monitor. (name: {})", new Object[]{name}); // <- Array for compat with older Log4j2.
+            }
+        } catch (final Throwable t) {
+            // Log.
+            LOGGER.warn("Ksyxis: Unable to register the JMX monitor.", new Object[]{t}); // <- Array for compat with older Log4j2.
+        }
+    }
+
+    /**
+     * Records the chunks that were not loaded.
+     *
+     * @param chunks Estimated amount of avoided chunks
+     */
+    public static void avoided(final int chunks) {
+        if (chunks <= 0) return;
+        CHUNKS_AVOIDED.add(chunks);
+    }
+
+    /**
+     * Records the chunks that were not loaded by the {@link Constants#TICKET_LEVEL_V1} ticket override.
+     *
+     * @param distance Added ticket distance
+     * @see Config#startChunks(int)
+     */
+    public static void avoidedRegion(final int distance) {
+        avoided(Constants.CHUNK_AMOUNT_V1 - Config.startChunks(distance));
+    }
+
+    /**
+     * Records the start of the {@code prepareLevels}.
+     */
+    public static void prepareLevelsStart() {
+        prepareLevelsStart = System.nanoTime();
+    }
+
+    /**
+     * Records the end of the {@code prepareLevels}.
+     */
+    public static void prepareLevelsEnd() {
+        prepareLevelsMillis = ((System.nanoTime() - prepareLevelsStart) / 1_000_000L);
+    }
+
+    /**
+     * Records the spawn chunk ticket of the dimension.
+     *
+     * @param dimension Dimension ID, {@code null} if unknown
+     * @param distance  Added ticket distance, {@code 0} or {@code 1} if no ticket is added
+     */
+    public static void spawnTicket(@Nullable final String dimension, final int distance) {
+        final String key = ((dimension != null) ? dimension : "unknown");
+        DIMENSION_SPAWN_TICKET_UPTIMES.put(key, Timeline.uptime());
+        DIMENSION_SPAWN_DISTANCES.put(key, distance);
+    }
+
+    @Contract(pure = true)
+    @Override
+    public Map<String, Long> getHandlerCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        for (final Handler handler : Handler.values()) {
+            counts.put(handler.id, handler.counter.sum());
+        }
+        return counts;
+    }
+
+    @Contract(pure = true)
+    @Override
+    public long getChunksAvoided() {
+        return CHUNKS_AVOIDED.sum();
+    }
+
+    @Contract(pure = true)
+    @Override
+    public int getReportChunks() {
+        return CompatHacks.REPORT_CHUNKS;
+    }
+
+    @Contract(pure = true)
+    @Override
+    public String getReportChunksMode() {
+        return ((CompatHacks.REPORT_CHUNKS == 0) ? "ksyxis" : "modernfix");
+    }
+
+    @Contract(pure = true)
+    @Override
+    public long getPrepareLevelsMillis() {
+        return prepareLevelsMillis;
+    }
+
+    @Contract(pure = true)
+    @Override
+    public Map<String, Long> getDimensionSpawnTicketUptimeMillis() {
+        return new TreeMap<>(DIMENSION_SPAWN_TICKET_UPTIMES);
+    }
+
+    @Contract(pure = true)
+    @Override
+    public Map<String, Integer> getDimensionSpawnDistances() {
+        return new TreeMap<>(DIMENSION_SPAWN_DISTANCES);
+    }
+
+    @Contract(pure = true)
+    @Override
+    public String toString() {
+        return "Ksyxis/Monitor{" +
+                "chunksAvoided=" + CHUNKS_AVOIDED +
+                ", prepareLevelsMillis=" + prepareLevelsMillis +
+                ", dimensionSpawnTicketUptimes=" + DIMENSION_SPAWN_TICKET_UPTIMES +
+                ", dimensionSpawnDistances=" + DIMENSION_SPAWN_DISTANCES +
+                '}';
+    }
+
+    /**
+     * Mixin handlers with fire counters.
+     *
+     * @author VidTu
+     * @apiNote Internal use only
+     */
+    @ApiStatus.Internal
+    public enum Handler {
+        /**
+         * {@code MinecraftServerMixin.ksyxis_prepareLevels_spawnChunkRadius_getInt}.
+         */
+        SERVER_SPAWN_CHUNK_RADIUS("MinecraftServerMixin.prepareLevels.spawnChunkRadius"),
+
+        /**
+         * {@code MinecraftServerMixin.ksyxis_prepareLevels_addRegionTicket}.
+         */
+        SERVER_REGION_TICKET("MinecraftServerMixin.prepareLevels.addRegionTicket"),
+
+        /**
+         * {@code MinecraftServerMixin.ksyxis_prepareLevels_getTickingGenerated}.
+         */
+        SERVER_TICKING_GENERATED("MinecraftServerMixin.prepareLevels.getTickingGenerated"),
+
+        /**
+         * {@code MinecraftServerMixin.ksyxis_initialWorldChunkLoad_loop}.
+         */
+        SERVER_LEGACY_LOOP("MinecraftServerMixin.initialWorldChunkLoad.loop"),
+
+        /**
+         * {@code ServerLevelMixin.ksyxis_setDefaultSpawnPos_spawnChunkRadius_getInt}.
+         */
+        LEVEL_SPAWN_CHUNK_RADIUS("ServerLevelMixin.setDefaultSpawnPos.spawnChunkRadius"),
+
+        /**
+         * {@code ServerLevelMixin.ksyxis_setDefaultSpawnPos_addRegionTicket}.
+         */
+        LEVEL_REGION_TICKET("ServerLevelMixin.setDefaultSpawnPos.addRegionTicket"),
+
+        /**
+         * {@code LevelMixin.ksyxis_isSpawnChunk_range} and {@code LevelInjectMixin.ksyxis_isSpawnChunk_head}.
+         */
+        LEGACY_SPAWN_CHECK("LevelMixin.isSpawnChunk"),
+
+        /**
+         * {@code PrepareSpawnTaskPreparingMixin.ksyxis_lambdaTick0_addTicketAndLoadWithRadius}.
+         */
+        PLAYER_PREPARING_TICKET("PrepareSpawnTaskPreparingMixin.tick.addTicketAndLoadWithRadius"),
+
+        /**
+         * {@code PrepareSpawnTaskReadyMixin.ksyxis_keepAlive_addTicketAndLoadWithRadius}.
+         */
+        PLAYER_READY_TICKET("PrepareSpawnTaskReadyMixin.keepAlive.addTicketAndLoadWithRadius"),
+
+        /**
+         * {@code PrepareSpawnTaskReadyMixin.ksyxis_spawn_waitForEntities}.
+         */
+        PLAYER_READY_WAIT("PrepareSpawnTaskReadyMixin.spawn.waitForEntities"),
+
+        /**
+         * {@code MinecraftMixin.ksyxis_doWorldLoad_closeDelayMs}.
+         */
+        CLIENT_DELAY("MinecraftMixin.doWorldLoad.closeDelayMs");
+
+        /**
+         * Handler ID for JMX.
+         */
+        private final String id;
+
+        /**
+         * Fire counter.
+         */
+        private final LongAdder counter = new LongAdder();
+
+        /**
+         * Creates a new handler.
+         *
+         * @param id Handler ID for JMX
+         */
+        @Contract(pure = true)
+        Handler(final String id) {
+            this.id = id;
+        }
+
+        /**
+         * Records the handler fire.
+         */
+        public void fire() {
+            this.counter.increment();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Map;
+
+/**
+ * JMX interface of the {@link Monitor}.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see Monitor
+ */
+@ApiStatus.Internal
+public interface MonitorMXBean {
+    /**
+     * Gets the amount of times each mixin handler has fired.
+     *
+     * @return Fire counts, mapped by the handler name
+     */
+    Map<String, Long> getHandlerCounts();
+
+    /**
+     * Gets the estimated amount of chunks that were not loaded thanks to Ksyxis.
+     *
+     * @return Estimated amount of avoided chunks
+     */
+    long getChunksAvoided();
+
+    /**
+     * Gets the amount of loaded chunks reported to the game.
+     *
+     * @return Reported amount of chunks
+     * @see CompatHacks#REPORT_CHUNKS
+     */
+    int getReportChunks();
+
+    /**
+     * Gets the current chunk reporting mode.
+     *
+     * @return {@code ksyxis} if no chunks are reported, {@code modernfix} if the ModernFix compat hack is used
+     * @see CompatHacks#REPORT_CHUNKS
+     */
+    String getReportChunksMode();
+
+    /**
+     * Gets the duration of the last {@code MinecraftServer.prepareLevels} (Mojang mappings).
+     *
+     * @return Duration in milliseconds, {@code -1} if not yet finished
+     */
+    long getPrepareLevelsMillis();
+
+    /**
+     * Gets the timestamp of the last added spawn chunk ticket for each dimension. This is a point in time
+     * (like the {@code uptimeMs} of the {@link Timeline}), not the loading duration of the dimension.
+     *
+     * @return Time since the JVM start in milliseconds, mapped by the dimension ID
+     */
+    Map<String, Long> getDimensionSpawnTicketUptimeMillis();
+
+    /**
+     * Gets the distance of the last added spawn chunk ticket for each dimension.
+     *
+     * @return Ticket distance, mapped by the dimension ID
+     */
+    Map<String, Integer> getDimensionSpawnDistances();
+}
@@ -0,0 +1,728 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.CheckReturnValue;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import ru.vidtu.ksyxis.compile.Variables;
+import ru.vidtu.ksyxis.platform.KPlugin;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Background prefetch of the chunks around the players from the region files. Ksyxis doesn't load the spawn chunks,
+ * so the first players pay for the cold chunk loads where they logged out. This reads the region file sectors of
+ * their areas after the world is loaded, so their chunks are already in the OS file cache when they reconnect.
+ * <p>
+ * The player positions are read from the player data the game saves on shutdown:
+ * {@code playerdata/*.dat} files and the singleplayer {@code Player} in {@code level.dat}.
+ * <p>
+ * As a lighter option, the most recently modified region files can be read as a whole via {@link #readahead(Object)}.
+ * <p>
+ * The world directory is taken from the server being prepared. (see {@link #world(Object)})
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see Config#PREFETCH_RADIUS
+ */
+@ApiStatus.Internal
+@NullMarked
+public final class Prefetch {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger("Ksyxis/Prefetch");
+
+    /**
+     * Maximum amount of players to prefetch the areas of. The most recently saved players are used.
+     */
+    private static final int MAX_PLAYERS = 32;
+
+    /**
+     * Size of the region file sector in bytes.
+     */
+    private static final int SECTOR = 4096;
+
+    /**
+     * Amount of the readahead threads.
+     */
+    private static final int READAHEAD_THREADS = 2;
+
+    /**
+     * Size of the readahead buffer in bytes.
+     */
+    private static final int READAHEAD_BUFFER = (1024 * 1024);
+
+    /**
+     * Names of the {@code MinecraftServer.getWorldPath(LevelResource)} (Mojang mappings) method in all supported mappings.
+     */
+    private static final String[] WORLD_PATH_METHODS = {
+            // Deobfuscated.
+            "getWorldPath", // Official Mojang
+            "getSavePath", // Fabric Yarn
+
+            // Obfuscated.
+            "method_27050", // Fabric Intermediary
+            "m_129843_", // Forge SRG (1.17.x+)
+            "func_240776_a_" // Forge SRG (1.16.x)
+    };
+
+    /**
+     * String of the {@code LevelResource.ROOT} (Mojang mappings) value, the world directory itself.
+     */
+    private static final String ROOT_RESOURCE = "/.";
+
+    /**
+     * Cached {@code MinecraftServer.getWorldPath(LevelResource)} (Mojang mappings) method, {@code null} if not yet found.
+     */
+    @Nullable
+    private static volatile Method worldPathMethod;
+
+    /**
+     * Cached {@code LevelResource.ROOT} (Mojang mappings) value, {@code null} if not yet found.
+     * Written before the {@link #worldPathMethod}.
+     */
+    @Nullable
+    private static volatile Object rootResource;
+
+    /**
+     * Whether the prefetch is currently running.
+     */
+    private static final AtomicBoolean RUNNING = new AtomicBoolean();
+
+    /**
+     * Whether the readahead is currently running.
+     */
+    private static final AtomicBoolean READING_AHEAD = new AtomicBoolean();
+
+    /**
+     * An instance of this class cannot be created.
+     *
+     * @throws AssertionError Always
+     * @deprecated Always throws
+     */
+    @ApiStatus.ScheduledForRemoval
+    @Deprecated
+    @Contract(value = "-> fail", pure = true)
+    private Prefetch() {
+        if (Variables.DEBUG_ASSERTS) {
+            throw new AssertionError("Ksyxis: No instances.");
+        }
+    }
+
+    /**
+     * Starts the prefetch of the server's world in the background thread, unless disabled or already running.
+     *
+     * @param server Server whose world to prefetch
+     */
+    public static void start(final Object server) {
+        // Skip if disabled.
+        if (Config.PREFETCH_RADIUS <= 0) return;
+
+        // Find the world.
+        final File world = world(server);
+        if (world == null) {
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                LOGGER.debug(KPlugin.MARKER, "Ksyxis: No world found to prefetch. (server: {})", new Object[]{server}); // <- Array for compat with older Log4j2.
+            }
+            return;
+        }
+
+        // Skip if already running.
+        if (!RUNNING.compareAndSet(false, true)) return;
+
+        // Start the thread.
+        final Thread thread = new Thread(() -> run(world), "Ksyxis/Prefetch");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Starts the region file readahead of the server's world on the background threads, unless disabled or already
+     * running. The most recently modified region files are read sequentially with large buffers, until the configured
+     * budget is spent.
+     *
+     * @param server Server whose world to read ahead
+     * @see Config#READAHEAD_MEGABYTES
+     */
+    public static void readahead(final Object server) {
+        // Skip if disabled.
+        if (Config.READAHEAD_MEGABYTES <= 0) return;
+
+        // Find the world.
+        final File world = world(server);
+        if (world == null) {
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                LOGGER.debug(KPlugin.MARKER, "Ksyxis: No world found to read ahead. (server: {})", new Object[]{server}); // <- Array for compat with older Log4j2.
+            }
+            return;
+        }
+
+        // Skip if already running.
+        if (!READING_AHEAD.compareAndSet(false, true)) return;
+
+        // Start the thread.
+        final Thread thread = new Thread(() -> runReadahead(world), "Ksyxis/Readahead");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Runs the readahead. Called in the background thread.
+     *
+     * @param world World directory
+     */
+    private static void runReadahead(final File world) {
+        try {
+            // Collect the region files, newest first, within the budget.
+            final long start = System.nanoTime();
+            final List<File> all = new ArrayList<>(64);
+            final List<File> folders = new ArrayList<>(4);
+            folders.add(new File(world, "region"));
+            folders.add(new File(world, "DIM-1/region"));
+            folders.add(new File(world, "DIM1/region"));
+            final File[] namespaces = new File(world, "dimensions").listFiles(File::isDirectory);
+            if (namespaces != null) {
+                for (final File namespace : namespaces) {
+                    final File[] dimensions = namespace.listFiles(File::isDirectory);
+                    if (dimensions == null) continue;
+                    for (final File dimension : dimensions) {
+                        folders.add(new File(dimension, "region"));
+                    }
+                }
+            }
+            for (final File folder : folders) {
+                final File[] regions = folder.listFiles((dir, name) -> name.endsWith(".mca"));
+                if (regions == null) continue;
+                all.addAll(Arrays.asList(regions));
+            }
+            all.sort(Comparator.comparingLong(File::lastModified).reversed());
+            /*non-final*/ long budget = (Config.READAHEAD_MEGABYTES * 1024L * 1024L);
+            final List<File> files = new ArrayList<>(all.size());
+            for (final File file : all) {
+                if (budget <= 0L) break;
+                files.add(file);
+                budget -= file.length();
+            }
+
+            // Read on the pool.
+            final AtomicLong bytes = new AtomicLong();
+            final ExecutorService pool = Executors.newFixedThreadPool(READAHEAD_THREADS, runnable -> {
+                final Thread thread = new Thread(runnable, "Ksyxis/Readahead");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+            try {
+                for (final File file : files) {
+                    pool.execute(() -> bytes.addAndGet(readFully(file)));
+                }
+            } finally {
+                pool.shutdown();
+            }
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+
+            // Log.
+            final long millis = ((System.nanoTime() - start) / 1_000_000L);
+            final long megabytes = (bytes.get() / (1024L * 1024L));
+            if (Variables.DEBUG_LOGS) {
+                LOGGER.info(KPlugin.MARKER, "Ksyxis: Read ahead {} region files ({} MB) in {} ms. (world: {}, files: {})", new Object[]{files.size(), megabytes, millis, world, files}); // <- Array for compat with older Log4j2.
+            } else {
+                LOGGER.info("Ksyxis: Read ahead {} region files ({} MB) in {} ms.", new Object[]{files.size(), megabytes, millis}); // <- Array for compat with older Log4j2.
+            }
+        } catch (final Throwable t) {
+            // Log.
+            LOGGER.warn("Ksyxis: Unable to read ahead the region files.", new Object[]{t}); // <- Array for compat with older Log4j2.
+        } finally {
+            // Allow the next readahead.
+            READING_AHEAD.set(false);
+        }
+    }
+
+    /**
+     * Reads the whole file sequentially, discarding the data. The OS keeps it in the file cache.
+     *
+     * @param file File to read
+     * @return Amount of read bytes, {@code 0} on error
+     */
+    private static long readFully(final File file) {
+        try (final InputStream in = Files.newInputStream(file.toPath())) {
+            final byte[] buffer = new byte[READAHEAD_BUFFER];
+            /*non-final*/ long total = 0L;
+            for (/*non-final*/ int read; (read = in.read(buffer)) >= 0; ) {
+                total += read;
+            }
+            return total;
+        } catch (final Throwable t) {
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                LOGGER.debug(KPlugin.MARKER, "Ksyxis: Unable to read ahead the region file. (file: {})", new Object[]{file, t}); // <- Array for compat with older Log4j2.
+            }
+            return 0L;
+        }
+    }
+
+    /**
+     * Runs the prefetch. Called in the background thread.
+     *
+     * @param world World directory
+     */
+    private static void run(final File world) {
+        try {
+            // Read the players.
+            final long start = System.nanoTime();
+            final List<File> files = new ArrayList<>(MAX_PLAYERS + 1);
+            final File[] players = new File(world, "playerdata").listFiles((dir, name) -> name.endsWith(".dat"));
+            if (players != null) {
+                Arrays.sort(players, Comparator.comparingLong(File::lastModified).reversed());
+                files.addAll(Arrays.asList(players).subList(0, Math.min(players.length, MAX_PLAYERS)));
+            }
+            final File level = new File(world, "level.dat");
+            final List<Position> positions = new ArrayList<>(files.size() + 1);
+            final Position host = read(level, true);
+            if (host != null) {
+                positions.add(host);
+            }
+            for (final File file : files) {
+                final Position position = read(file, false);
+                if (position == null) continue;
+                positions.add(position);
+            }
+
+            // Prefetch the areas.
+            final int chunks = prefetch(world, positions);
+
+            // Log.
+            final long millis = ((System.nanoTime() - start) / 1_000_000L);
+            if (Variables.DEBUG_LOGS) {
+                LOGGER.info(KPlugin.MARKER, "Ksyxis: Prefetched {} chunks around {} players in {} ms. (world: {}, positions: {})", new Object[]{chunks, positions.size(), millis, world, positions}); // <- Array for compat with older Log4j2.
+            } else {
+                LOGGER.info("Ksyxis: Prefetched {} chunks around {} players in {} ms.", new Object[]{chunks, positions.size(), millis}); // <- Array for compat with older Log4j2.
+            }
+        } catch (final Throwable t) {
+            // Log.
+            LOGGER.warn("Ksyxis: Unable to prefetch the chunks.", new Object[]{t}); // <- Array for compat with older Log4j2.
+        } finally {
+            // Allow the next prefetch.
+            RUNNING.set(false);
+        }
+    }
+
+    /**
+     * Gets the world directory of the server via {@code MinecraftServer.getWorldPath(LevelResource.ROOT)}
+     * (Mojang mappings). Used since 1.16 (inclusive).
+     *
+     * @param server Server instance to get the world directory of
+     * @return World directory, {@code null} if unknown
+     */
+    @Nullable
+    static File world(final Object server) {
+        // Validate.
+        if (Variables.DEBUG_ASSERTS) {
+            assert (server != null) : "Ksyxis: Parameter 'server' is null.";
+        }
+
+        // Use the cached method.
+        final Method cached = worldPathMethod;
+        if (cached != null) {
+            return worldPath(cached, rootResource, server);
+        }
+
+        // Search all methods.
+        final Class<?> serverClass = server.getClass(); // Implicit NPE for 'server'
+        for (final Method method : serverClass.getMethods()) {
+            if ((method.getParameterCount() != 1) || !Arrays.asList(WORLD_PATH_METHODS).contains(method.getName())) continue;
+            try {
+                // Attempt to find the root and invoke.
+                final Object root = root(method.getParameterTypes()[0]);
+                if (root == null) continue;
+                final File world = worldPath(method, root, server);
+                if (world == null) continue;
+
+                // Cache.
+                rootResource = root;
+                worldPathMethod = method;
+
+                // Log. (**DEBUG**)
+                if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                    LOGGER.debug(KPlugin.MARKER, "Ksyxis: Found world path method. (serverClass: {}, method: {}, world: {})", new Object[]{serverClass, method, world}); // <- Array for compat with older Log4j2.
+                }
+
+                // Done.
+                return world;
+            } catch (final Throwable t) {
+                // Log. (**TRACE**)
+                if (Variables.DEBUG_LOGS && LOGGER.isTraceEnabled(KPlugin.MARKER)) {
+                    LOGGER.trace(KPlugin.MARKER, "Ksyxis: Method error, skipping in Prefetch. (serverClass: {}, method: {})", new Object[]{serverClass, method, t}); // <- Array for compat with older Log4j2.
+                }
+            }
+        }
+
+        // Not found.
+        return null;
+    }
+
+    /**
+     * Finds the {@code LevelResource.ROOT} (Mojang mappings) value among the static fields of the resource class.
+     *
+     * @param type Resource class, the parameter of the world path method
+     * @return Root resource, {@code null} if not found
+     * @throws IllegalAccessException If unable to read a field
+     */
+    @Nullable
+    private static Object root(final Class<?> type) throws IllegalAccessException {
+        for (final Field field : type.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || (field.getType() != type)) continue;
+            final Object value = field.get(null);
+            if (!ROOT_RESOURCE.equals(String.valueOf(value))) continue;
+            return value;
+        }
+        return null;
+    }
+
+    /**
+     * Invokes the world path method.
+     *
+     * @param method World path method to invoke
+     * @param root   Root resource to pass
+     * @param server Server to invoke the method on
+     * @return World directory, {@code null} on error
+     */
+    @Nullable
+    private static File worldPath(final Method method, @Nullable final Object root, final Object server) {
+        try {
+            // Invoke.
+            final Object path = method.invoke(server, root);
+            return ((path instanceof Path) ? ((Path) path).toAbsolutePath().normalize().toFile() : null);
+        } catch (final Throwable t) {
+            // Log. (**TRACE**)
+            if (Variables.DEBUG_LOGS && LOGGER.isTraceEnabled(KPlugin.MARKER)) {
+                LOGGER.trace(KPlugin.MARKER, "Ksyxis: Unable to invoke the world path method. (method: {}, server: {})", new Object[]{method, server, t}); // <- Array for compat with older Log4j2.
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Prefetches the areas around the positions.
+     *
+     * @param world     World directory
+     * @param positions Player positions
+     * @return Amount of prefetched chunks, overlapping areas are prefetched once
+     * @throws IOException On I/O error
+     */
+    @CheckReturnValue
+    private static int prefetch(final File world, final List<Position> positions) throws IOException {
+        final int radius = Config.PREFETCH_RADIUS;
+        final Map<File, RandomAccessFile> regions = new HashMap<>(8);
+        final Map<File, Set<Long>> visited = new HashMap<>(4);
+        final byte[] header = new byte[SECTOR];
+        final byte[] buffer = new byte[SECTOR * 16];
+        /*non-final*/ int chunks = 0;
+        try {
+            for (final Position position : positions) {
+                final File folder = region(world, position.dimension);
+                final Set<Long> done = visited.computeIfAbsent(folder, ignored -> new HashSet<>(((radius * 2) + 1) * ((radius * 2) + 1)));
+                for (int x = (position.chunkX - radius); x <= (position.chunkX + radius); x++) {
+                    for (int z = (position.chunkZ - radius); z <= (position.chunkZ + radius); z++) {
+                        // Skip the chunks that overlap with other players.
+                        if (!done.add((((long) x) << 32) | (z & 0xFFFFFFFFL))) continue;
+
+                        // Open the region.
+                        final File file = new File(folder, "r." + (x >> 5) + '.' + (z >> 5) + ".mca");
+                        /*non-final*/ RandomAccessFile region = regions.get(file);
+                        if (region == null) {
+                            if (regions.containsKey(file) || !file.isFile()) {
+                                regions.put(file, null);
+                                continue;
+                            }
+                            region = new RandomAccessFile(file, "r");
+                            regions.put(file, region);
+                        }
+
+                        // Read the location.
+                        final int index = (((x & 31) + ((z & 31) * 32)) * 4);
+                        region.seek(index);
+                        region.readFully(header, 0, 4);
+                        final int offset = (((header[0] & 0xFF) << 16) | ((header[1] & 0xFF) << 8) | (header[2] & 0xFF));
+                        final int sectors = (header[3] & 0xFF);
+                        if ((offset < 2) || (sectors == 0)) continue;
+
+                        // Read the chunk, discarding the data. The OS keeps it in the file cache.
+                        region.seek((long) offset * SECTOR);
+                        for (/*non-final*/ int left = (sectors * SECTOR); left > 0; ) {
+                            final int read = region.read(buffer, 0, Math.min(left, buffer.length));
+                            if (read < 0) break;
+                            left -= read;
+                        }
+                        chunks++;
+                    }
+                }
+            }
+        } finally {
+            // Close the regions.
+            for (final RandomAccessFile region : regions.values()) {
+                if (region == null) continue;
+                region.close();
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Gets the region folder of the dimension.
+     *
+     * @param world     World directory
+     * @param dimension Dimension ID (e.g. {@code minecraft:overworld})
+     * @return Region folder
+     */
+    @Contract(pure = true)
+    static File region(final File world, final String dimension) {
+        switch (dimension) {
+            case Dimensions.OVERWORLD:
+                return new File(world, "region");
+            case "minecraft:the_nether":
+                return new File(world, "DIM-1/region");
+            case "minecraft:the_end":
+                return new File(world, "DIM1/region");
+            default:
+                final int separator = dimension.indexOf(':');
+                return new File(world, "dimensions/" + dimension.substring(0, Math.max(0, separator)) + '/' + dimension.substring(separator + 1) + "/region");
+        }
+    }
+
+    /**
+     * Reads the player position from the NBT file.
+     *
+     * @param file     Player data file
+     * @param levelDat Whether the file is the {@code level.dat}, the player is read from {@code Data.Player} then
+     * @return Player position, {@code null} if not found or on error
+     */
+    @CheckReturnValue
+    @Nullable
+    private static Position read(final File file, final boolean levelDat) {
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file.toPath()))))) {
+            // Read the root compound.
+            if (in.readByte() != 10) return null;
+            in.readUTF();
+
+            // Find the player.
+            if (levelDat && (!find(in, "Data") || !find(in, "Player"))) return null;
+
+            // Read the player.
+            /*non-final*/ double x = Double.NaN;
+            /*non-final*/ double z = Double.NaN;
+            /*non-final*/ String dimension = Dimensions.OVERWORLD;
+            for (/*non-final*/ byte type; (type = in.readByte()) != 0; ) {
+                final String name = in.readUTF();
+                if ((type == 9) && "Pos".equals(name)) {
+                    final byte element = in.readByte();
+                    final int length = in.readInt();
+                    if ((element != 6) || (length < 3)) return null;
+                    x = in.readDouble();
+                    in.readDouble();
+                    z = in.readDouble();
+                    for (int i = 3; i < length; i++) {
+                        in.readDouble();
+                    }
+                } else if ((type == 3) && "Dimension".equals(name)) {
+                    final int id = in.readInt();
+                    dimension = ((id == -1) ? "minecraft:the_nether" : ((id == 1) ? "minecraft:the_end" : Dimensions.OVERWORLD));
+                } else if ((type == 8) && "Dimension".equals(name)) {
+                    dimension = in.readUTF();
+                } else {
+                    skip(in, type);
+                }
+            }
+
+            // Done.
+            if (Double.isNaN(x) || Double.isNaN(z)) return null;
+            return new Position(dimension, (((int) Math.floor(x)) >> 4), (((int) Math.floor(z)) >> 4));
+        } catch (final Throwable t) {
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                LOGGER.debug(KPlugin.MARKER, "Ksyxis: Unable to read the player position. (file: {}, levelDat: {})", new Object[]{file, levelDat, t}); // <- Array for compat with older Log4j2.
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Finds the compound tag in the current compound, skipping other tags.
+     *
+     * @param in   Input stream, positioned inside the compound
+     * @param name Name of the compound to find
+     * @return Whether the compound has been found, the stream is positioned inside it then
+     * @throws IOException On I/O error
+     */
+    @CheckReturnValue
+    private static boolean find(final DataInputStream in, final String name) throws IOException {
+        for (/*non-final*/ byte type; (type = in.readByte()) != 0; ) {
+            final String tag = in.readUTF();
+            if ((type == 10) && name.equals(tag)) return true;
+            skip(in, type);
+        }
+        return false;
+    }
+
+    /**
+     * Skips the NBT tag payload.
+     *
+     * @param in   Input stream, positioned at the payload
+     * @param type Tag type
+     * @throws IOException On I/O error or unknown tag type
+     */
+    private static void skip(final DataInputStream in, final byte type) throws IOException {
+        switch (type) {
+            case 1: skipFully(in, 1L); break; // Byte
+            case 2: skipFully(in, 2L); break; // Short
+            case 3: case 5: skipFully(in, 4L); break; // Int, Float
+            case 4: case 6: skipFully(in, 8L); break; // Long, Double
+            case 7: skipFully(in, in.readInt()); break; // Byte Array
+            case 8: skipFully(in, in.readUnsignedShort()); break; // String
+            case 9: { // List
+                final byte element = in.readByte();
+                final int length = in.readInt();
+                for (int i = 0; i < length; i++) {
+                    skip(in, element);
+                }
+                break;
+            }
+            case 10: { // Compound
+                for (/*non-final*/ byte inner; (inner = in.readByte()) != 0; ) {
+                    skipFully(in, in.readUnsignedShort());
+                    skip(in, inner);
+                }
+                break;
+            }
+            case 11: skipFully(in, in.readInt() * 4L); break; // Int Array
+            case 12: skipFully(in, in.readInt() * 8L); break; // Long Array
+            default: throw new IOException("Ksyxis: Unknown NBT tag type. (type: " + type + ')');
+        }
+    }
+
+    /**
+     * Skips exactly the amount of bytes.
+     *
+     * @param in    Input stream
+     * @param bytes Amount of bytes to skip
+     * @throws IOException On I/O error
+     * @throws EOFException If the stream has ended
+     */
+    private static void skipFully(final DataInputStream in, final long bytes) throws IOException {
+        for (/*non-final*/ long left = bytes; left > 0L; ) {
+            final long skipped = in.skip(left);
+            if (skipped > 0L) {
+                left -= skipped;
+            } else {
+                if (in.read() < 0) throw new EOFException("Ksyxis: Unexpected end of NBT.");
+                left--;
+            }
+        }
+    }
+
+    /**
+     * Player chunk position.
+     *
+     * @author VidTu
+     * @apiNote Internal use only
+     */
+    @ApiStatus.Internal
+    private static final class Position {
+        /**
+         * Dimension ID.
+         */
+        private final String dimension;
+
+        /**
+         * Chunk X.
+         */
+        private final int chunkX;
+
+        /**
+         * Chunk Z.
+         */
+        private final int chunkZ;
+
+        /**
+         * Creates a new position.
+         *
+         * @param dimension Dimension ID
+         * @param chunkX    Chunk X
+         * @param chunkZ    Chunk Z
+         */
+        @Contract(pure = true)
+        private Position(final String dimension, final int chunkX, final int chunkZ) {
+            this.dimension = dimension;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public String toString() {
+            return this.dimension + '@' + this.chunkX + ',' + this.chunkZ;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import ru.vidtu.ksyxis.compile.Variables;
+import ru.vidtu.ksyxis.platform.KPlugin;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Releases the {@link Config#KEPT_CHUNKS} while the old generation is above the configured limit after a GC.
+ * Tracked via the {@link MemoryPoolMXBean#setCollectionUsageThreshold(long)} notifications, restored once
+ * the usage after a GC falls below 90% of the limit. The released chunks are unloaded by the game on the next
+ * autosave, like any other unused chunk.
+ * <p>
+ * Used before 1.13.2 (inclusive) only, like the {@link Config#KEPT_CHUNKS} themselves. The spawn, portal,
+ * and forced chunk tickets of newer versions are never released.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see Config#MEMORY_PRESSURE_PERCENT
+ */
+@ApiStatus.Internal
+@NullMarked
+public final class Pressure {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger("Ksyxis/Pressure");
+
+    /**
+     * Interval between the memory pool checks while shedding, in milliseconds.
+     */
+    private static final long POLL_MS = 5000L;
+
+    /**
+     * Bytes in a megabyte.
+     */
+    private static final long MB = (1024L * 1024L);
+
+    /**
+     * Whether the listener has been registered.
+     */
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    /**
+     * Whether the kept chunks are currently released.
+     */
+    private static final AtomicBoolean SHEDDING = new AtomicBoolean();
+
+    /**
+     * An instance of this class cannot be created.
+     *
+     * @throws AssertionError Always
+     * @deprecated Always throws
+     */
+    @ApiStatus.ScheduledForRemoval
+    @Deprecated
+    @Contract(value = "-> fail", pure = true)
+    private Pressure() {
+        if (Variables.DEBUG_ASSERTS) {
+            throw new AssertionError("Ksyxis: No instances.");
+        }
+    }
+
+    /**
+     * Checks whether the kept chunks are currently released due to the memory pressure.
+     *
+     * @return Whether the kept chunks should not be kept
+     */
+    @Contract(pure = true)
+    public static boolean shedding() {
+        return SHEDDING.get();
+    }
+
+    /**
+     * Registers the memory pressure listener, if enabled, there are kept chunks, and not yet registered.
+     */
+    public static void register() {
+        // Skip if disabled, nothing to shed, or already registered.
+        if ((Config.MEMORY_PRESSURE_PERCENT <= 0) || Config.KEPT_CHUNKS.isEmpty() || !REGISTERED.compareAndSet(false, true)) return;
+        try {
+            // Find the pool.
+            final MemoryPoolMXBean pool = oldGeneration();
+            final long max = ((pool != null) ? pool.getUsage().getMax() : -1L);
+            if (max <= 0L) {
+                // Log.
+                LOGGER.warn("Ksyxis: No bounded heap memory pool supports collection usage thresholds, memory pressure shedding is disabled. (pool: {})", new Object[]{(pool != null) ? pool.getName() : null}); // <- Array for compat with older Log4j2.
+                return;
+            }
+
+            // Set the threshold and listen.
+            final String name = pool.getName();
+            final long threshold = ((max / 100L) * Config.MEMORY_PRESSURE_PERCENT);
+            pool.setCollectionUsageThreshold(threshold);
+            final NotificationEmitter emitter = (NotificationEmitter) ManagementFactory.getMemoryMXBean();
+            emitter.addNotificationListener((notification, handback) -> {
+                // Skip other notifications.
+                if (!MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType())) return;
+                final MemoryNotificationInfo info = MemoryNotificationInfo.from((CompositeData) notification.getUserData());
+                if (!name.equals(info.getPoolName())) return;
+
+                // Shed.
+                shed(pool, threshold, info.getUsage().getUsed());
+            }, null, null);
+
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                LOGGER.debug(KPlugin.MARKER, "Ksyxis: Registered memory pressure listener. (pool: {}, thresholdMb: {}, maxMb: {}, keptChunks: {})", new Object[]{name, threshold / MB, max / MB, Config.KEPT_CHUNKS}); // <- Array for compat with older Log4j2.
+            }
+        } catch (final Throwable t) {
+            // Log.
+            LOGGER.warn("Ksyxis: Unable to register the memory pressure listener.", new Object[]{t}); // <- Array for compat with older Log4j2.
+        }
+    }
+
+    /**
+     * Finds the old generation, the largest bounded heap pool that supports collection usage thresholds.
+     *
+     * @return Old generation pool, {@code null} if not found
+     */
+    @Contract(pure = true)
+    @Nullable
+    private static MemoryPoolMXBean oldGeneration() {
+        /*non-final*/ MemoryPoolMXBean found = null;
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if ((pool.getType() != MemoryType.HEAP) || !pool.isCollectionUsageThresholdSupported()) continue;
+            if ((found == null) || (pool.getUsage().getMax() > found.getUsage().getMax())) {
+                found = pool;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Releases the kept chunks and starts watching the pool to restore them.
+     *
+     * @param pool      Watched memory pool
+     * @param threshold Collection usage threshold in bytes
+     * @param used      Collection usage that exceeded the threshold in bytes
+     */
+    private static void shed(final MemoryPoolMXBean pool, final long threshold, final long used) {
+        // Shed only once.
+        if (!SHEDDING.compareAndSet(false, true)) return;
+
+        // Log.
+        LOGGER.warn("Ksyxis: Old generation is above the memory pressure limit, releasing kept chunks. (pool: {}, usedMb: {}, thresholdMb: {}, keptChunks: {})", new Object[]{pool.getName(), used / MB, threshold / MB, Config.KEPT_CHUNKS.size()}); // <- Array for compat with older Log4j2.
+
+        // Start watching.
+        final Thread thread = new Thread(() -> watch(pool, threshold, used), "Ksyxis/Pressure");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Watches the pool, reports the usage after the next GC, and restores the kept chunks once the pressure is gone.
+     * Called in the background thread.
+     *
+     * @param pool      Watched memory pool
+     * @param threshold Collection usage threshold in bytes
+     * @param used      Collection usage that exceeded the threshold in bytes
+     */
+    private static void watch(final MemoryPoolMXBean pool, final long threshold, final long used) {
+        try {
+            final long restore = ((threshold / 10L) * 9L);
+            /*non-final*/ long last = used;
+            /*non-final*/ boolean reported = false;
+            while (true) {
+                // Wait and check the usage after the last GC.
+                Thread.sleep(POLL_MS);
+                final MemoryUsage usage = pool.getCollectionUsage();
+                if (usage == null) continue;
+                final long now = usage.getUsed();
+
+                // Report the usage after the first GC since the shedding. Not all of the difference is due to the released chunks.
+                if (!reported && (now != last)) {
+                    reported = true;
+                    LOGGER.info("Ksyxis: Old generation usage after the first GC since releasing kept chunks. (pool: {}, usedBeforeMb: {}, usedAfterMb: {})", new Object[]{pool.getName(), used / MB, now / MB}); // <- Array for compat with older Log4j2.
+                }
+                last = now;
+
+                // Restore if the pressure is gone.
+                if (now < restore) break;
+            }
+
+            // Log.
+            LOGGER.info("Ksyxis: Memory pressure is gone, keeping chunks again. (pool: {}, usedMb: {}, restoreMb: {})", new Object[]{pool.getName(), last / MB, restore / MB}); // <- Array for compat with older Log4j2.
+        } catch (final InterruptedException ie) {
+            // Restore the flag.
+            Thread.currentThread().interrupt();
+        } catch (final Throwable t) {
+            // Log.
+            LOGGER.warn("Ksyxis: Unable to watch the memory pressure, keeping chunks again.", new Object[]{t}); // <- Array for compat with older Log4j2.
+        } finally {
+            // Keep the chunks again.
+            SHEDDING.set(false);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import ru.vidtu.ksyxis.compile.Constants;
+
+/**
+ * Chunk ticket types that Ksyxis rewrites. Groups the existing {@code spawnChunkRadius} and {@code joinTicketLevel}
+ * config values: the {@link #key()} config key sets the value for all dimensions and, for {@link #dimensional()} types,
+ * the {@code <key>.<dimension>} keys override it for specific dimensions.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see Config#ticket(Ticket, String)
+ */
+@ApiStatus.Internal
+@NullMarked
+public enum Ticket {
+    /**
+     * World spawn ticket ({@code TicketType.START} in Mojang mappings), the value is the radius of the loaded area
+     * in the {@code spawnChunkRadius} gamerule units. (see {@link Config#startDistance(int)})
+     * Rewritten by {@code MinecraftServerMixin} and {@code ServerLevelMixin}. Used since 1.14 (inclusive).
+     */
+    START("spawnChunkRadius", Constants.MAXIMUM_SPAWN_CHUNKS_V2, true),
+
+    /**
+     * Player join ticket ({@code PrepareSpawnTask} in Mojang mappings), the value is the ticket level.
+     * Rewritten by {@code PrepareSpawnTaskPreparingMixin} and {@code PrepareSpawnTaskReadyMixin}.
+     * Used since 1.21.9 (inclusive). The join target dimension is not known to these hooks. The level is fixed,
+     * it only affects the chunks loaded before the player spawns and is not raised after the join.
+     */
+    PLAYER_JOIN("joinTicketLevel", Constants.TICKET_LEVEL_V3, false);
+
+    /**
+     * Config key of the type.
+     */
+    private final String key;
+
+    /**
+     * Maximum allowed value, inclusive.
+     */
+    private final int max;
+
+    /**
+     * Whether the value can be overridden per dimension.
+     */
+    private final boolean dimensional;
+
+    /**
+     * Creates a new ticket type.
+     *
+     * @param key         Config key of the type
+     * @param max         Maximum allowed value, inclusive
+     * @param dimensional Whether the value can be overridden per dimension
+     */
+    @Contract(pure = true)
+    Ticket(final String key, final int max, final boolean dimensional) {
+        this.key = key;
+        this.max = max;
+        this.dimensional = dimensional;
+    }
+
+    /**
+     * Gets the config key of the type.
+     *
+     * @return Config key, e.g. {@code spawnChunkRadius}
+     */
+    @Contract(pure = true)
+    public String key() {
+        return this.key;
+    }
+
+    /**
+     * Gets the maximum allowed value.
+     *
+     * @return Maximum value, inclusive
+     */
+    @Contract(pure = true)
+    public int max() {
+        return this.max;
+    }
+
+    /**
+     * Gets whether the value can be overridden per dimension.
+     *
+     * @return Whether the {@code <key>.<dimension>} keys are allowed
+     */
+    @Contract(pure = true)
+    public boolean dimensional() {
+        return this.dimensional;
+    }
+}
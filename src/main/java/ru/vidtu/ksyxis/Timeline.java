@@ -0,0 +1,242 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import ru.vidtu.ksyxis.compile.Variables;
+import ru.vidtu.ksyxis.platform.KPlugin;
+
+import java.io.BufferedWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Timeline of the world loading phases, written as a JSON report to the game directory.
+ * <p>
+ * The report looks like this:
+ * <pre>{@code
+ * {
+ *   "version": "1.0.0",
+ *   "jvmStart": 1700000000000,
+ *   "events": [
+ *     {"phase": "serverInit", "dimension": null, "uptimeMs": 12345},
+ *     {"phase": "prepareLevelsStart", "dimension": "minecraft:overworld", "uptimeMs": 12400}
+ *   ]
+ * }
+ * }</pre>
+ * The {@code uptimeMs} is the time since the JVM start.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ */
+@ApiStatus.Internal
+@NullMarked
+public final class Timeline {
+    /**
+     * Server constructed. Recorded at the end of the {@code MinecraftServer} constructor.
+     */
+    public static final String SERVER_INIT = "serverInit";
+
+    /**
+     * Spawn preparation started. Recorded at the start of {@code MinecraftServer.prepareLevels} (Mojang mappings).
+     */
+    public static final String PREPARE_LEVELS_START = "prepareLevelsStart";
+
+    /**
+     * Spawn preparation finished. Recorded at the end of {@code MinecraftServer.prepareLevels} (Mojang mappings).
+     * The server starts ticking right after it, so the report is written here, without hooking every tick.
+     */
+    public static final String PREPARE_LEVELS_END = "prepareLevelsEnd";
+
+    /**
+     * Spawn chunk ticket added for a dimension. Recorded in {@code ServerLevel.setDefaultSpawnPos} (Mojang mappings)
+     * for each level and in {@code MinecraftServer.prepareLevels} (Mojang mappings) for the overworld before 1.20.4 (inclusive).
+     */
+    public static final String SPAWN_TICKET = "spawnTicket";
+
+    /**
+     * Client world loaded. Recorded at the end of {@code Minecraft.doWorldLoad} (Mojang mappings).
+     */
+    public static final String CLIENT_WORLD_LOAD = "clientWorldLoad";
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger("Ksyxis/Timeline");
+
+    /**
+     * Path to the report file.
+     */
+    private static final Path FILE = Paths.get("logs", "ksyxis-timeline.json");
+
+    /**
+     * Maximum amount of recorded events. Protects from growing forever when loading many worlds in one session.
+     */
+    private static final int MAX_EVENTS = 256;
+
+    /**
+     * JVM start time in epoch milliseconds.
+     */
+    private static final long JVM_START = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    /**
+     * Recorded events as JSON objects. Guarded by itself.
+     */
+    private static final List<String> EVENTS = new ArrayList<>(16);
+
+    /**
+     * An instance of this class cannot be created.
+     *
+     * @throws AssertionError Always
+     * @deprecated Always throws
+     */
+    @ApiStatus.ScheduledForRemoval
+    @Deprecated
+    @Contract(value = "-> fail", pure = true)
+    private Timeline() {
+        if (Variables.DEBUG_ASSERTS) {
+            throw new AssertionError("Ksyxis: No instances.");
+        }
+    }
+
+    /**
+     * Records the event.
+     *
+     * @param phase     Event phase, one of the constants of this class
+     * @param dimension Event dimension ID, {@code null} if none or unknown
+     * @param write     Whether to write the report after recording, used for the final phases
+     */
+    public static void mark(final String phase, @Nullable final String dimension, final boolean write) {
+        // Validate.
+        if (Variables.DEBUG_ASSERTS) {
+            assert (phase != null) : "Ksyxis: Parameter 'phase' is null. (dimension: " + dimension + ", write: " + write + ')';
+        }
+
+        // Create the event.
+        final long uptime = uptime();
+        final String event = "{\"phase\": " + quote(phase) + ", \"dimension\": " + quote(dimension) + ", \"uptimeMs\": " + uptime + '}';
+
+        // Record.
+        synchronized (EVENTS) {
+            if (EVENTS.size() >= MAX_EVENTS) {
+                EVENTS.remove(0);
+            }
+            EVENTS.add(event);
+        }
+
+        // Log. (**DEBUG**)
+        if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+            LOGGER.debug(KPlugin.MARKER, "Ksyxis: Recorded timeline event. (phase: {}, dimension: {}, uptime: {}, write: {})", new Object[]{phase, dimension, uptime, write}); // <- Array for compat with older Log4j2.
+        }
+
+        // Write, if needed.
+        if (!write) return;
+        write();
+    }
+
+    /**
+     * Gets the time since the JVM start.
+     *
+     * @return Time since the JVM start in milliseconds
+     */
+    @Contract(pure = true)
+    public static long uptime() {
+        return (System.currentTimeMillis() - JVM_START);
+    }
+
+    /**
+     * Writes the report to the {@link #FILE}.
+     */
+    private static void write() {
+        try {
+            // Create the directory.
+            final Path parent = FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            // Write to the temporary file.
+            final Path temp = FILE.resolveSibling("ksyxis-timeline.json.tmp");
+            try (final BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write("{\n  \"version\": " + quote(Variables.VERSION) + ",\n  \"jvmStart\": " + JVM_START + ",\n  \"events\": [");
+                synchronized (EVENTS) {
+                    for (int i = 0, size = EVENTS.size(); i < size; i++) {
+                        writer.write((i == 0) ? "\n    " : ",\n    ");
+                        writer.write(EVENTS.get(i));
+                    }
+                }
+                writer.write("\n  ]\n}\n");
+            }
+
+            // Replace.
+            Files.move(temp, FILE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final Throwable t) {
+            // Log.
+            LOGGER.warn("Ksyxis: Unable to write the timeline report. (file: {})", new Object[]{FILE, t}); // <- Array for compat with older Log4j2.
+        }
+    }
+
+    /**
+     * Quotes the string as a JSON value.
+     *
+     * @param value String to quote, {@code null} for JSON {@code null}
+     * @return Quoted JSON value
+     */
+    @Contract(pure = true)
+    private static String quote(@Nullable final String value) {
+        // Null.
+        if (value == null) return "null";
+
+        // Escape.
+        final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0, length = value.length(); i < length; i++) {
+            final char c = value.charAt(i);
+            if ((c == '"') || (c == '\\')) {
+                builder.append('\\').append(c);
+            } else if (c < ' ') {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import ru.vidtu.ksyxis.compile.Variables;
+import ru.vidtu.ksyxis.platform.KPlugin;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collector of the time spent by Ksyxis itself during the startup.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see KPlugin
+ */
+@ApiStatus.Internal
+@NullMarked
+public final class Timings {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger("Ksyxis/Timings");
+
+    /**
+     * Time spent probing the targets in nanoseconds, mapped by the mixin name.
+     */
+    private static final Map<String, Long> PROBES = new ConcurrentHashMap<>(16);
+
+    /**
+     * Time spent applying the mixins in nanoseconds, mapped by the mixin name.
+     */
+    private static final Map<String, Long> MIXINS = new ConcurrentHashMap<>(16);
+
+    /**
+     * Time spent applying the mixins in nanoseconds, mapped by the target class name.
+     */
+    private static final Map<String, Long> TARGETS = new ConcurrentHashMap<>(16);
+
+    /**
+     * Start times of the mixin applications in progress, mapped by the {@code "<targetClassName> <mixinClassName>"}.
+     */
+    private static final Map<String, Long> STARTS = new ConcurrentHashMap<>(16);
+
+    /**
+     * Whether the report has been logged.
+     */
+    private static final AtomicBoolean REPORTED = new AtomicBoolean();
+
+    /**
+     * An instance of this class cannot be created.
+     *
+     * @throws AssertionError Always
+     * @deprecated Always throws
+     */
+    @ApiStatus.ScheduledForRemoval
+    @Deprecated
+    @Contract(value = "-> fail", pure = true)
+    private Timings() {
+        if (Variables.DEBUG_ASSERTS) {
+            throw new AssertionError("Ksyxis: No instances.");
+        }
+    }
+
+    /**
+     * Records the probe time.
+     *
+     * @param mixinClassName Fully qualified class name of the mixin
+     * @param nanos          Time spent probing in nanoseconds
+     */
+    public static void probe(final String mixinClassName, final long nanos) {
+        // Validate.
+        if (Variables.DEBUG_ASSERTS) {
+            assert (mixinClassName != null) : "Ksyxis: Parameter 'mixinClassName' is null. (nanos: " + nanos + ')';
+            assert (nanos >= 0L) : "Ksyxis: Parameter 'nanos' is negative. (mixinClassName: " + mixinClassName + ", nanos: " + nanos + ')';
+        }
+
+        // Record.
+        PROBES.merge(name(mixinClassName), nanos, Long::sum);
+    }
+
+    /**
+     * Records the start of the mixin application.
+     *
+     * @param targetClassName Fully qualified class name of the target class
+     * @param mixinClassName  Fully qualified class name of the mixin
+     * @see #applied(String, String)
+     */
+    public static void applying(final String targetClassName, final String mixinClassName) {
+        STARTS.put(targetClassName + ' ' + mixinClassName, System.nanoTime());
+    }
+
+    /**
+     * Records the end of the mixin application.
+     *
+     * @param targetClassName Fully qualified class name of the target class
+     * @param mixinClassName  Fully qualified class name of the mixin
+     * @see #applying(String, String)
+     */
+    public static void applied(final String targetClassName, final String mixinClassName) {
+        // Get the start.
+        final long end = System.nanoTime();
+        final Long start = STARTS.remove(targetClassName + ' ' + mixinClassName);
+        if (start == null) return;
+
+        // Record.
+        final long nanos = (end - start);
+        MIXINS.merge(name(mixinClassName), nanos, Long::sum);
+        TARGETS.merge(targetClassName, nanos, Long::sum);
+    }
+
+    /**
+     * Logs the report, if not yet logged. Called at the start of the world loading, which is the end of the startup.
+     */
+    public static void report() {
+        // Report only once.
+        if (!REPORTED.compareAndSet(false, true)) return;
+
+        // Sum.
+        long probes = 0L;
+        for (final long nanos : PROBES.values()) {
+            probes += nanos;
+        }
+        long applies = 0L;
+        for (final long nanos : MIXINS.values()) {
+            applies += nanos;
+        }
+
+        // Log.
+        if (Variables.DEBUG_LOGS) {
+            LOGGER.info(KPlugin.MARKER, "Ksyxis: Startup cost is {} ms. (probes: {} ms, applies: {} ms, probesPerMixin: {}, appliesPerMixin: {}, appliesPerTarget: {})", new Object[]{millis(probes + applies), millis(probes), millis(applies), millis(PROBES), millis(MIXINS), millis(TARGETS)}); // <- Array for compat with older Log4j2.
+        } else {
+            LOGGER.info("Ksyxis: Startup cost is {} ms. (probes: {} ms, applies: {} ms, probesPerMixin: {}, appliesPerMixin: {}, appliesPerTarget: {})", new Object[]{millis(probes + applies), millis(probes), millis(applies), millis(PROBES), millis(MIXINS), millis(TARGETS)}); // <- Array for compat with older Log4j2.
+        }
+    }
+
+    /**
+     * Gets the simple name of the mixin.
+     *
+     * @param mixinClassName Fully qualified class name of the mixin
+     * @return Mixin class name without the package
+     */
+    @Contract(pure = true)
+    private static String name(final String mixinClassName) {
+        return mixinClassName.substring(mixinClassName.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Converts the nanoseconds into the milliseconds string.
+     *
+     * @param nanos Time in nanoseconds
+     * @return Time in milliseconds, with 3 decimal digits
+     */
+    @Contract(pure = true)
+    private static String millis(final long nanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        final String fraction = Long.toString(1000L + (micros % 1000L)).substring(1);
+        return (micros / 1000L) + "." + fraction;
+    }
+
+    /**
+     * Converts the nanoseconds map into the sorted milliseconds map.
+     *
+     * @param nanos Times in nanoseconds
+     * @return Times in milliseconds, sorted by key
+     */
+    @Contract(pure = true)
+    private static Map<String, String> millis(final Map<String, Long> nanos) {
+        final Map<String, String> millis = new TreeMap<>();
+        for (final Map.Entry<String, Long> entry : nanos.entrySet()) {
+            millis.put(entry.getKey(), millis(entry.getValue()));
+        }
+        return millis;
+    }
+}
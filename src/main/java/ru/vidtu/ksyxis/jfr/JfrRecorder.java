@@ -0,0 +1,121 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis.jfr;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import ru.vidtu.ksyxis.Flight;
+
+/**
+ * Java Flight Recorder events recorder.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see Flight
+ */
+@ApiStatus.Internal
+@NullMarked
+public final class JfrRecorder implements Flight.Recorder {
+    /**
+     * Creates a new recorder.
+     *
+     * @apiNote Do not call, called by {@link Flight} via reflection
+     */
+    @Contract(pure = true)
+    public JfrRecorder() {
+        // Empty.
+    }
+
+    @Override
+    public Object prepareLevelsBegin() {
+        final PrepareLevelsEvent event = new PrepareLevelsEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void prepareLevelsEnd(final Object event, final int radius) {
+        final PrepareLevelsEvent prepare = (PrepareLevelsEvent) event;
+        prepare.end();
+        if (!prepare.shouldCommit()) return;
+        prepare.radius = radius;
+        prepare.commit();
+    }
+
+    @Override
+    public void ticket(final String handler, final int oldLevel, final int newLevel) {
+        final TicketEvent event = new TicketEvent();
+        if (!event.shouldCommit()) return;
+        event.handler = handler;
+        event.oldLevel = oldLevel;
+        event.newLevel = newLevel;
+        event.commit();
+    }
+
+    @Override
+    public Object playerChunksBegin(final int oldLevel, final int newLevel) {
+        final PlayerChunksEvent event = new PlayerChunksEvent();
+        event.oldLevel = oldLevel;
+        event.newLevel = newLevel;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void playerChunksEnd(final Object event) {
+        final PlayerChunksEvent wait = (PlayerChunksEvent) event;
+        wait.end();
+        if (!wait.shouldCommit()) return;
+        wait.commit();
+    }
+
+    @Override
+    public Object delayBegin(final long delay) {
+        final DelayEvent event = new DelayEvent();
+        event.delay = delay;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void delayEnd(final Object event) {
+        final DelayEvent wait = (DelayEvent) event;
+        wait.end();
+        if (!wait.shouldCommit()) return;
+        wait.commit();
+    }
+
+    @Contract(pure = true)
+    @Override
+    public String toString() {
+        return "Ksyxis/JfrRecorder{}";
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Wait for the player chunks when spawning the player, with the waited-for ticket level overridden by Ksyxis.
+ * Begins before the wait and ends when the player is spawned.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see JfrRecorder
+ */
+@ApiStatus.Internal
+@Name("ru.vidtu.ksyxis.PlayerChunks")
+@Label("Player Chunks Wait")
+@Category("Ksyxis")
+@Description("Wait for the player chunks when spawning the player, with the waited-for ticket level overridden by Ksyxis.")
+@NullMarked
+public final class PlayerChunksEvent extends Event {
+    /**
+     * Original waited-for ticket level.
+     */
+    @Label("Old Level")
+    int oldLevel;
+
+    /**
+     * Overridden waited-for ticket level.
+     */
+    @Label("New Level")
+    int newLevel;
+}
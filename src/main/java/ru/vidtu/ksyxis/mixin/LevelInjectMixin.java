@@ -0,0 +1,127 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis.mixin;
+
+import com.google.errorprone.annotations.DoNotCall;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.UnknownNullability;
+import org.jspecify.annotations.NullMarked;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Pseudo;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import ru.vidtu.ksyxis.Config;
+import ru.vidtu.ksyxis.Monitor;
+import ru.vidtu.ksyxis.Pressure;
+import ru.vidtu.ksyxis.compile.Variables;
+import ru.vidtu.ksyxis.platform.KPlugin;
+
+/**
+ * Mixin for {@code ServerLevel} that disables spawn chunk tickets in older versions via the cancellable
+ * {@link Inject}. Allocates a callback object on each call, so it is only applied if selected in the config
+ * or if there are {@link Config#KEPT_CHUNKS}.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see LevelMixin
+ * @see Config#SPAWN_CHUNK_CHECK_INJECT
+ */
+// @ApiStatus.Internal // Can't annotate this without logging in the console.
+@Mixin(targets = {
+        // Deobfuscated.
+        "net.minecraft.world.World", // Forge MCP + Forge SRG + Legacy Fabric Yarn + Ornithe Feather
+
+        // Obfuscated.
+        "net.minecraft.class_1150", // Legacy Fabric Intermediary
+        "net.minecraft.unmapped.C_5553933" // Ornithe Intermediary
+}, remap = false)
+@Pseudo
+@NullMarked
+public final class LevelInjectMixin {
+    /**
+     * Logger for this class.
+     */
+    @Unique
+    @UnknownNullability
+    private static final Logger KSYXIS_LOGGER = (Variables.DEBUG_LOGS ? LogManager.getLogger("Ksyxis/LevelInjectMixin") : null);
+
+    /**
+     * An instance of this class cannot be created.
+     *
+     * @throws AssertionError Always
+     * @deprecated Always throws
+     */
+    // @ApiStatus.ScheduledForRemoval // Can't annotate this without logging in the console.
+    @Deprecated
+    @Contract(value = "-> fail", pure = true)
+    private LevelInjectMixin() {
+        if (Variables.DEBUG_ASSERTS) {
+            throw new AssertionError("Ksyxis: No instances.");
+        }
+    }
+
+    /**
+     * Injects into {@code isSpawnChunk(int, int)} to return {@code false} for all chunks except the
+     * {@link Config#KEPT_CHUNKS} (unless {@link Pressure#shedding()}) to prevent loading spawn chunks.
+     * Used before 1.13.2 (inclusive).
+     *
+     * @param x   Chunk X
+     * @param z   Chunk Z
+     * @param cir Callback data to set the result into
+     * @apiNote Do not call, called by Mixin
+     */
+    @DoNotCall("Called by Mixin")
+    @Inject(method = {
+            // Deobfuscated.
+            "isSpawnChunk(II)Z", // Forge MCP + Ornithe Feather
+            "isChunkInsideSpawnChunks(II)Z", // Legacy Fabric Yarn
+
+            // Obfuscated.
+            "func_72916_c(II)Z", // Forge SRG
+            "method_3671(II)Z", // Legacy Fabric Intermediary
+            "m_4821236(II)Z" // Ornithe Intermediary
+    }, at = @At("HEAD"), cancellable = true, require = 0, expect = 0)
+    private void ksyxis_isSpawnChunk_head(final int x, final int z, final CallbackInfoReturnable<Boolean> cir) {
+        // Log. (**TRACE**)
+        if (Variables.DEBUG_LOGS && KSYXIS_LOGGER.isTraceEnabled(KPlugin.MARKER)) {
+            KSYXIS_LOGGER.trace(KPlugin.MARKER, "Ksyxis: Forcing chunk to be not spawn chunk in LevelInjectMixin. (x: {}, z: {}, cir: {}, level: {})", new Object[]{x, z, cir, this}); // <- Array for compat with older Log4j2.
+        }
+
+        // Record the monitor.
+        Monitor.Handler.LEGACY_SPAWN_CHECK.fire();
+
+        // Force false to remove any spawn chunks from the world and allow them to be unloaded, unless kept.
+        cir.setReturnValue(Config.KEPT_CHUNKS.contains(x, z) && !Pressure.shedding());
+    }
+}
@@ -38,9 +38,10 @@ import org.jspecify.annotations.NullMarked;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
 import org.spongepowered.asm.mixin.Unique;
-import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.asm.mixin.injection.Constant;
+import org.spongepowered.asm.mixin.injection.ModifyConstant;
+import ru.vidtu.ksyxis.Monitor;
+import ru.vidtu.ksyxis.compile.Constants;
 import ru.vidtu.ksyxis.compile.Variables;
 import ru.vidtu.ksyxis.platform.KPlugin;
 
@@ -49,6 +50,7 @@ import ru.vidtu.ksyxis.platform.KPlugin;
  *
  * @author VidTu
  * @apiNote Internal use only
+ * @see LevelInjectMixin
  */
 // @ApiStatus.Internal // Can't annotate this without logging in the console.
 @Mixin(targets = {
@@ -85,16 +87,19 @@ public final class LevelMixin {
     }
 
     /**
-     * Injects into {@code isSpawnChunk(int, int)} to always return {@code false}
-     * to prevent loading spawn chunks. Used before 1.13.2 (inclusive).
+     * Injects into {@code isSpawnChunk(int, int)} to always return {@code false} to prevent loading spawn
+     * chunks. Used before 1.13.2 (inclusive). The method checks whether the chunk is within the
+     * {@code [-128..128]} block range around the spawn, this injector replaces {@code 128} with {@code -1}
+     * and {@code -128} with {@code 1}, making the range empty. Unlike the cancellable {@link LevelInjectMixin},
+     * this doesn't allocate anything, because this method is called for every chunk unload check.
      *
-     * @param x   Chunk X, used only for logging
-     * @param z   Chunk Z, used only for logging
-     * @param cir Callback data to set {@code false} into
+     * @param oldRange Previous constant value for logging
+     * @return Either {@code -1} or {@code 1}
      * @apiNote Do not call, called by Mixin
+     * @see LevelInjectMixin
      */
     @DoNotCall("Called by Mixin")
-    @Inject(method = {
+    @ModifyConstant(method = {
             // Deobfuscated.
             "isSpawnChunk(II)Z", // Forge MCP + Ornithe Feather
             "isChunkInsideSpawnChunks(II)Z", // Legacy Fabric Yarn
@@ -103,14 +108,26 @@ public final class LevelMixin {
             "func_72916_c(II)Z", // Forge SRG
             "method_3671(II)Z", // Legacy Fabric Intermediary
             "m_4821236(II)Z" // Ornithe Intermediary
-    }, at = @At("HEAD"), cancellable = true, require = 0, expect = 0)
-    private void ksyxis_isSpawnChunk_head(final int x, final int z, final CallbackInfoReturnable<Boolean> cir) {
+    }, constant = {@Constant(intValue = -Constants.SPAWN_CHECK_BLOCK_RADIUS_V1), @Constant(intValue = Constants.SPAWN_CHECK_BLOCK_RADIUS_V1)}, remap = false, require = 0, expect = 0)
+    private int ksyxis_isSpawnChunk_range(final int oldRange) {
+        // Assert.
+        if (Variables.DEBUG_ASSERTS) {
+            // Should never happen on practice, constant Mixin.
+            assert ((oldRange == -Constants.SPAWN_CHECK_BLOCK_RADIUS_V1) || (oldRange == Constants.SPAWN_CHECK_BLOCK_RADIUS_V1)) : "Ksyxis: Spawn chunk range is not -" + Constants.SPAWN_CHECK_BLOCK_RADIUS_V1 + '/' + Constants.SPAWN_CHECK_BLOCK_RADIUS_V1 + " in LevelMixin. (oldRange: " + oldRange + ", level: " + this + ')';
+        }
+
+        // Swap the range bounds to make the range empty.
+        final int range = ((oldRange < 0) ? 1 : -1);
+
         // Log. (**TRACE**)
         if (Variables.DEBUG_LOGS && KSYXIS_LOGGER.isTraceEnabled(KPlugin.MARKER)) {
-            KSYXIS_LOGGER.trace(KPlugin.MARKER, "Ksyxis: Forcing chunk to be not spawn chunk in LevelMixin. (x: {}, z: {}, cir: {}, level: {})", new Object[]{x, z, cir, this}); // <- Array for compat with older Log4j2.
+            KSYXIS_LOGGER.trace(KPlugin.MARKER, "Ksyxis: Hijacking range constant to force chunk to be not spawn chunk in LevelMixin. (oldRange: {}, range: {}, level: {})", new Object[]{oldRange, range, this}); // <- Array for compat with older Log4j2.
         }
 
-        // Always force false to remove any spawn chunks from the world and allow them to be unloaded.
-        cir.setReturnValue(false);
+        // Record the monitor.
+        Monitor.Handler.LEGACY_SPAWN_CHECK.fire();
+
+        // Return.
+        return range;
     }
 }
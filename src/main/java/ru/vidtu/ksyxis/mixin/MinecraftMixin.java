@@ -35,11 +35,18 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
 import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Constant;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyConstant;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import ru.vidtu.ksyxis.Flight;
+import ru.vidtu.ksyxis.Monitor;
+import ru.vidtu.ksyxis.Timeline;
 import ru.vidtu.ksyxis.compile.Constants;
 import ru.vidtu.ksyxis.compile.Variables;
 import ru.vidtu.ksyxis.platform.KPlugin;
@@ -69,6 +76,15 @@ public final class MinecraftMixin {
     @UnknownNullability
     private static final Logger KSYXIS_LOGGER = (Variables.DEBUG_LOGS ? LogManager.getLogger("Ksyxis/MinecraftMixin") : null);
 
+    /**
+     * Current JFR client world loading wait event, {@code null} if none.
+     *
+     * @see Flight#delayBegin(long)
+     */
+    @Unique
+    @Nullable
+    private Object ksyxis_delayEvent;
+
     /**
      * An instance of this class cannot be created.
      *
@@ -93,7 +109,6 @@ public final class MinecraftMixin {
      * @apiNote Do not call, called by Mixin
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @ModifyConstant(method = {
             // Deobfuscated.
             "doWorldLoad(Lnet/minecraft/world/level/storage/LevelStorageSource$LevelStorageAccess;Lnet/minecraft/server/packs/repository/PackRepository;Lnet/minecraft/server/WorldStem;Ljava/util/Optional;Z)V", // Official Mojang (26.1)
@@ -115,8 +130,40 @@ public final class MinecraftMixin {
             KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Removing fake " + Constants.FAKE_DELAY_MS_V3 + " delay in MinecraftMixin. (delay: {}, client: {})", new Object[]{delay, this}); // <- Array for compat with older Log4j2.
         }
 
+        // Record the flight. The wait after the removed delay ends when the world is loaded.
+        this.ksyxis_delayEvent = Flight.delayBegin(delay);
+
+        // Record the monitor.
+        Monitor.Handler.CLIENT_DELAY.fire();
+
         // Remove fake delay.
         return 0L;
     }
-}
 
+    /**
+     * Injects into {@code Minecraft.doWorldLoad} (Mojang mappings) to record
+     * the client world loading, end the wait, and write the timeline. Used since 1.21.9 (inclusive).
+     *
+     * @param ci Callback data, ignored
+     * @apiNote Do not call, called by Mixin
+     * @see Timeline#CLIENT_WORLD_LOAD
+     */
+    @DoNotCall("Called by Mixin")
+    @Inject(method = {
+            // Deobfuscated.
+            "doWorldLoad(Lnet/minecraft/world/level/storage/LevelStorageSource$LevelStorageAccess;Lnet/minecraft/server/packs/repository/PackRepository;Lnet/minecraft/server/WorldStem;Ljava/util/Optional;Z)V", // Official Mojang (26.1)
+            "doWorldLoad(Lnet/minecraft/world/level/storage/LevelStorageSource$LevelStorageAccess;Lnet/minecraft/server/packs/repository/PackRepository;Lnet/minecraft/server/WorldStem;Z)V", // Official Mojang
+            "startIntegratedServer(Lnet/minecraft/world/level/storage/LevelStorage$Session;Lnet/minecraft/resource/ResourcePackManager;Lnet/minecraft/server/SaveLoader;Z)V", // Fabric Yarn
+
+            // Obfuscated.
+            "method_29610(Lnet/minecraft/class_32$class_5143;Lnet/minecraft/class_3283;Lnet/minecraft/class_6904;Z)V" // Fabric Intermediary
+    }, at = @At("RETURN"), remap = false, require = 0, expect = 0)
+    private void ksyxis_doWorldLoad_return(final CallbackInfo ci) {
+        // Record the flight.
+        Flight.delayEnd(this.ksyxis_delayEvent);
+        this.ksyxis_delayEvent = null;
+
+        // Record the timeline.
+        Timeline.mark(Timeline.CLIENT_WORLD_LOAD, null, true);
+    }
+}
@@ -34,6 +34,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
 import org.spongepowered.asm.mixin.Unique;
@@ -44,12 +45,23 @@ import org.spongepowered.asm.mixin.injection.ModifyConstant;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import ru.vidtu.ksyxis.CompatHacks;
+import ru.vidtu.ksyxis.Config;
+import ru.vidtu.ksyxis.Dimensions;
+import ru.vidtu.ksyxis.Flight;
+import ru.vidtu.ksyxis.Monitor;
+import ru.vidtu.ksyxis.Prefetch;
+import ru.vidtu.ksyxis.Pressure;
+import ru.vidtu.ksyxis.SpawnLevel;
+import ru.vidtu.ksyxis.Ticket;
+import ru.vidtu.ksyxis.Timeline;
+import ru.vidtu.ksyxis.Timings;
 import ru.vidtu.ksyxis.compile.Constants;
 import ru.vidtu.ksyxis.compile.Variables;
 import ru.vidtu.ksyxis.platform.KPlugin;
 
 /**
- * Mixin for {@code ServerLevel} that disables waiting for spawn chunks and sets {@code spawnChunkRadius} to {@code 0}.
+ * Mixin for {@code ServerLevel} that disables waiting for spawn chunks and sets {@code spawnChunkRadius} to
+ * the {@link Config#ticket(Ticket, String) configured} value. ({@code 0} by default)
  *
  * @author VidTu
  * @apiNote Internal use only
@@ -71,6 +83,48 @@ public final class MinecraftServerMixin {
     @Unique
     private static final Logger KSYXIS_LOGGER = LogManager.getLogger("Ksyxis/MinecraftServerMixin");
 
+    /**
+     * Current JFR {@code prepareLevels} event, {@code null} if none.
+     *
+     * @see Flight#prepareLevelsBegin()
+     */
+    @Unique
+    @Nullable
+    private Object ksyxis_prepareLevelsEvent;
+
+    /**
+     * Overworld dimension ID as resolved by {@link ServerLevelMixin}, {@code null} if unknown (e.g. before 1.16).
+     * Resolved when the spawn preparation starts, so the ticket lookups on both sides agree.
+     *
+     * @see Dimensions#overworld(Object)
+     */
+    @Unique
+    @Nullable
+    private String ksyxis_overworld;
+
+    /**
+     * Overworld level of the current spawn preparation, {@code null} if none or unknown (e.g. before 1.16).
+     * Used to wait for the spawn chunk ticket that {@link ServerLevelMixin} has added to it.
+     *
+     * @see SpawnLevel
+     */
+    @Unique
+    @Nullable
+    private Object ksyxis_overworldLevel;
+
+    /**
+     * Whether a spawn chunk ticket has been added by {@link #ksyxis_prepareLevels_addRegionTicket(int)}
+     * during the current spawn preparation.
+     */
+    @Unique
+    private boolean ksyxis_spawnTicket;
+
+    /**
+     * Distance of the spawn chunk ticket added during the current spawn preparation, if {@link #ksyxis_spawnTicket}.
+     */
+    @Unique
+    private int ksyxis_spawnDistance;
+
     /**
      * An instance of this class cannot be created.
      *
@@ -86,16 +140,37 @@ public final class MinecraftServerMixin {
         }
     }
 
+    /**
+     * Injects into the {@code MinecraftServer} constructor to record the server construction and register the JMX
+     * monitor and the memory pressure listener. Used in all versions.
+     *
+     * @param ci Callback data, ignored
+     * @apiNote Do not call, called by Mixin
+     * @see Timeline#SERVER_INIT
+     * @see Monitor#register()
+     * @see Pressure#register()
+     */
+    @DoNotCall("Called by Mixin")
+    @Inject(method = "<init>", at = @At("RETURN"), remap = false, require = 0, expect = 0)
+    private void ksyxis_init_return(final CallbackInfo ci) {
+        // Record the timeline and register the monitor and the memory pressure listener.
+        Timeline.mark(Timeline.SERVER_INIT, null, false);
+        Monitor.register();
+        Pressure.register();
+    }
+
     /**
      * Injects into {@code MinecraftServer.prepareLevels} (Mojang mappings) to override the
-     * {@code spawnChunkRadius} gamerule. Used since 1.20.6 (inclusive) through 1.21.8 (inclusive).
+     * {@code spawnChunkRadius} gamerule. The game waits for the {@code (2 * radius + 1)^2} ticking chunks,
+     * so the radius is checked against the ticket that {@link ServerLevelMixin} has actually added to the overworld.
+     * Used since 1.20.6 (inclusive) through 1.21.8 (inclusive).
      *
      * @param spawnChunks Previous {@code spawnChunkRadius} value for logging
-     * @return Always {@code 0}
+     * @return Configured overworld spawn chunk radius, {@code 0} by default
      * @apiNote Do not call, called by Mixin
+     * @see Ticket#START
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @ModifyVariable(method = {
             // Deobfuscated.
             "prepareLevels(Lnet/minecraft/server/level/progress/ChunkProgressListener;)V", // Official Mojang
@@ -110,13 +185,28 @@ public final class MinecraftServerMixin {
             assert ((spawnChunks >= 0) && (spawnChunks <= Constants.MAXIMUM_SPAWN_CHUNKS_V2)) : "Ksyxis: Gamerule 'spawnChunkRadius' is not in the [0.." +  Constants.MAXIMUM_SPAWN_CHUNKS_V2 + "] range in MinecraftServerMixin. (spawnChunks: " + spawnChunks + ", server: " + this + ')';
         }
 
+        // Get the radius. The spawn chunks are prepared in the overworld.
+        /*non-final*/ int radius = Config.ticket(Ticket.START, this.ksyxis_overworld);
+
+        // Check the ticket that was actually added. The game waits for the exact amount, or it'll wait forever.
+        final Object level = this.ksyxis_overworldLevel;
+        final int added = ((level instanceof SpawnLevel) ? ((SpawnLevel) level).ksyxis_spawnDistance() : -1);
+        if ((added >= 0) && (added != Config.startDistance(radius))) {
+            final int fixed = ((added > 1) ? (added - 1) : 0);
+            KSYXIS_LOGGER.warn("Ksyxis: Spawn chunk ticket distance doesn't match the configured radius, waiting for the added ticket. (radius: {}, added: {}, fixed: {})", new Object[]{radius, added, fixed}); // <- Array for compat with older Log4j2.
+            radius = fixed;
+        }
+
         // Log. (**DEBUG**)
         if (Variables.DEBUG_LOGS && KSYXIS_LOGGER.isDebugEnabled(KPlugin.MARKER)) {
-            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Reporting 0 as spawnChunkRadius gamerule in MinecraftServerMixin. (spawnChunks: {}, server: {})", new Object[]{spawnChunks, this}); // <- Array for compat with older Log4j2.
+            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Reporting configured spawnChunkRadius gamerule in MinecraftServerMixin. (spawnChunks: {}, radius: {}, server: {})", new Object[]{spawnChunks, radius, this}); // <- Array for compat with older Log4j2.
         }
 
-        // Report spawnChunkRadius gamerule as 0.
-        return 0;
+        // Record the monitor.
+        Monitor.Handler.SERVER_SPAWN_CHUNK_RADIUS.fire();
+
+        // Report spawnChunkRadius gamerule as configured. (0 by default)
+        return radius;
     }
 
     /**
@@ -127,7 +217,6 @@ public final class MinecraftServerMixin {
      * @apiNote Do not call, called by Mixin
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @Inject(method = {
             // Deobfuscated.
             "prepareLevels()V", // Official Mojang (1.21.10)
@@ -161,6 +250,75 @@ public final class MinecraftServerMixin {
         } else {
             KSYXIS_LOGGER.info("Ksyxis: Speeding up the world loading... Delete the mod, if it got stuck after this message. ({} {})", new Object[]{this.getClass().getName(), ci.getId()}); // <- Array for compat with older Log4j2.
         }
+
+        // Resolve the overworld the same way as the level does.
+        final Object overworld = Dimensions.overworld(this);
+        this.ksyxis_overworldLevel = overworld;
+        this.ksyxis_overworld = ((overworld != null) ? Dimensions.of(overworld) : null);
+        this.ksyxis_spawnTicket = false;
+
+        // Record the timeline, the flight, and the monitor.
+        Timeline.mark(Timeline.PREPARE_LEVELS_START, this.ksyxis_overworld, false);
+        this.ksyxis_prepareLevelsEvent = Flight.prepareLevelsBegin();
+        Monitor.prepareLevelsStart();
+
+        // Report the startup cost.
+        Timings.report();
+    }
+
+    /**
+     * Injects into {@code MinecraftServer.prepareLevels} (Mojang mappings) to record
+     * the end of the spawn preparation and write the timeline. Used in all versions.
+     *
+     * @param ci Callback data, ignored
+     * @apiNote Do not call, called by Mixin
+     * @see Timeline#PREPARE_LEVELS_END
+     */
+    @DoNotCall("Called by Mixin")
+    @Inject(method = {
+            // Deobfuscated.
+            "prepareLevels()V", // Official Mojang (1.21.10)
+            "prepareLevels(Lnet/minecraft/server/level/progress/ChunkProgressListener;)V", // Official Mojang (1.21.8)
+            "prepareStartRegion()V", // Fabric Yarn (1.21.10)
+            "prepareStartRegion(Lnet/minecraft/server/WorldGenerationProgressListener;)V", // Fabric Yarn (1.21.8)
+            "loadInitialChunks(Lnet/minecraft/world/chunk/listener/IChunkStatusListener;)V", // Forge MCP
+            "initialWorldChunkLoad(Lnet/minecraft/world/storage/WorldSavedDataStorage;)V", // Forge MCP (1.13)
+            "initialWorldChunkLoad()V", // Forge MCP (1.12)
+            "prepareWorlds()V", // Legacy Fabric Yarn (1.12)
+            "prepareWorlds(Lnet/minecraft/world/storage/DimensionDataStorage;)V", // Ornithe Feather (1.13)
+
+            // Obfuscated.
+            "method_3774()V", // Fabric Intermediary (1.21.10)
+            "method_3774(Lnet/minecraft/class_3949;)V", // Fabric Intermediary (1.21.8)
+            "func_213186_a(Lnet/minecraft/world/chunk/listener/IChunkStatusListener;)V", // Forge SRG (1.16.x)
+            "m_129940_(Lnet/minecraft/src/C_21_;)V", // Forge SRG (1.17.x)
+            "m_129940_(Lnet/minecraft/server/level/progress/ChunkProgressListener;)V", // Forge SRG (1.20.x)
+            "m_wcdfzsgy(Lnet/minecraft/unmapped/C_jnfclwgd;)V", // Quilt Hashed
+            "m_4020281(Lnet/minecraft/unmapped/C_8054043;)V", // Ornithe Intermediary (1.13)
+            "m_4020281()V", // Ornithe Intermediary (1.12)
+            "method_20317(Lnet/minecraft/class_4070;)V", // Legacy Fabric Intermediary (1.13)
+            "method_3019()V", // Legacy Fabric Intermediary (1.12)
+            "func_71222_d(Lnet/minecraft/world/storage/WorldSavedDataStorage;)V", // Forge SRG (1.13)
+            "func_71222_d()V" // Forge SRG (1.12)
+    }, at = @At("RETURN"), remap = false, require = 0, expect = 0)
+    private void ksyxis_prepareLevels_return(final CallbackInfo ci) {
+        // Log. (**DEBUG**)
+        if (Variables.DEBUG_LOGS && KSYXIS_LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: World loading finished in MinecraftServerMixin. (ci: {}, server: {})", new Object[]{ci, this}); // <- Array for compat with older Log4j2.
+        }
+
+        // Record the timeline, the flight, and the monitor.
+        Timeline.mark(Timeline.PREPARE_LEVELS_END, this.ksyxis_overworld, true);
+        Flight.prepareLevelsEnd(this.ksyxis_prepareLevelsEvent, Config.ticket(Ticket.START, this.ksyxis_overworld));
+        this.ksyxis_prepareLevelsEvent = null;
+        Monitor.prepareLevelsEnd();
+
+        // Don't keep the level.
+        this.ksyxis_overworldLevel = null;
+
+        // Read ahead the region files and prefetch the player areas. Not earlier, to not compete with the startup I/O.
+        Prefetch.readahead(this);
+        Prefetch.start(this);
     }
 
     /**
@@ -168,11 +326,12 @@ public final class MinecraftServerMixin {
      * loading chunks at the spawn. Used in 1.14 (inclusive) through 1.20.4 (inclusive).
      *
      * @param ticket Previous constant value for logging
-     * @return Always {@code 0}
+     * @return Ticket distance for the configured overworld spawn chunk radius, {@code 0} by default
      * @apiNote Do not call, called by Mixin
+     * @see Ticket#START
+     * @see Config#startDistance(int)
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @ModifyConstant(method = {
             // Deobfuscated.
             "prepareLevels(Lnet/minecraft/server/level/progress/ChunkProgressListener;)V", // Official Mojang
@@ -194,27 +353,48 @@ public final class MinecraftServerMixin {
             assert (ticket == Constants.TICKET_LEVEL_V1) : "Ksyxis: Added ticket level is not " + Constants.TICKET_LEVEL_V1 + " in MinecraftServerMixin. (ticket: " + ticket + ", server: " + this + ')';
         }
 
+        // Get the distance. The spawn chunks are prepared in the overworld.
+        final int radius = Config.ticket(Ticket.START, this.ksyxis_overworld);
+        final int distance = Config.startDistance(radius);
+
+        // Record the timeline.
+        Timeline.mark(Timeline.SPAWN_TICKET, this.ksyxis_overworld, false);
+
         // Log. (**DEBUG**)
         if (Variables.DEBUG_LOGS && KSYXIS_LOGGER.isDebugEnabled(KPlugin.MARKER)) {
-            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Adding zero-level ticket instead of " + Constants.TICKET_LEVEL_V1 + " level in MinecraftServerMixin. (ticket: {}, server: {})", new Object[]{ticket, this}); // <- Array for compat with older Log4j2.
+            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Adding configured level ticket instead of " + Constants.TICKET_LEVEL_V1 + " level in MinecraftServerMixin. (ticket: {}, radius: {}, distance: {}, server: {})", new Object[]{ticket, radius, distance, this}); // <- Array for compat with older Log4j2.
         }
 
-        // Add zero-level ticket.
-        return 0;
+        // Record the flight.
+        Flight.ticket("MinecraftServerMixin.prepareLevels", ticket, distance);
+
+        // Record the monitor.
+        Monitor.Handler.SERVER_REGION_TICKET.fire();
+        Monitor.spawnTicket(this.ksyxis_overworld, distance);
+        Monitor.avoidedRegion(distance);
+
+        // Remember the ticket.
+        this.ksyxis_spawnDistance = distance;
+        this.ksyxis_spawnTicket = true;
+
+        // Add configured-distance ticket. (zero-distance by default)
+        return distance;
     }
 
     /**
      * Injects into {@code MinecraftServer.prepareLevels} (Mojang mappings) to prevent game freezing while trying to
-     * wait for {@link Constants#CHUNK_AMOUNT_V1} chunks that will never load. Returns {@code 0}. Does
-     * nothing with ModernFix and returns the original value. Used in 1.14 (inclusive) through 1.20.4 (inclusive).
+     * wait for {@link Constants#CHUNK_AMOUNT_V1} chunks that will never load. Returns the amount of ticking chunks
+     * for the configured radius. ({@code 0} by default) Does nothing with ModernFix and returns the original
+     * value. Used in 1.14 (inclusive) through 1.20.4 (inclusive).
      *
      * @param oldChunks Previous constant value for logging
-     * @return Always {@code 0} without ModernFix, always {@code 441} with ModernFix
+     * @return {@code (2 * radius + 1)^2} (or {@code 0} for zero radius) without ModernFix, always {@code 441} with ModernFix
      * @apiNote Do not call, called by Mixin
      * @see CompatHacks#REPORT_CHUNKS
+     * @see Ticket#START
+     * @see Config#startChunks(int)
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @ModifyConstant(method = {
             // Deobfuscated.
             "prepareLevels(Lnet/minecraft/server/level/progress/ChunkProgressListener;)V", // Official Mojang
@@ -236,15 +416,29 @@ public final class MinecraftServerMixin {
             assert (oldChunks == Constants.CHUNK_AMOUNT_V1) : "Ksyxis: Amount of ticking chunks is not " + Constants.CHUNK_AMOUNT_V1 + " in MinecraftServerMixin. (oldChunks: " + oldChunks + ", server: " + this + ')';
         }
 
-        // Get the amount of chunks to wait.
-        final int chunks = CompatHacks.REPORT_CHUNKS;
+        // Get the amount of chunks to wait. A ticket with distance D makes (2D-1)^2 chunks ticking.
+        // The game waits for the exact amount, so it must match the added ticket, or it'll wait forever.
+        /*non-final*/ int chunks = CompatHacks.REPORT_CHUNKS;
+        if (chunks == 0) {
+            final int distance = Config.startDistance(Config.ticket(Ticket.START, this.ksyxis_overworld));
+            chunks = Config.startChunks(distance);
+            final int added = (this.ksyxis_spawnTicket ? this.ksyxis_spawnDistance : -1);
+            if ((added >= 0) && (added != distance)) {
+                final int fixed = Config.startChunks(added);
+                KSYXIS_LOGGER.warn("Ksyxis: Spawn chunk ticket distance doesn't match the configured radius, waiting for the added ticket. (distance: {}, added: {}, chunks: {}, fixed: {})", new Object[]{distance, added, chunks, fixed}); // <- Array for compat with older Log4j2.
+                chunks = fixed;
+            }
+        }
 
         // Log. (**DEBUG**)
         if (Variables.DEBUG_LOGS && KSYXIS_LOGGER.isDebugEnabled(KPlugin.MARKER)) {
             KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Reporting fake loaded chunks in MinecraftServerMixin. (oldChunks: {}, chunks: {}, server: {})", new Object[]{oldChunks, chunks, this}); // <- Array for compat with older Log4j2.
         }
 
-        // Wait for 0 OR 441 chunks to load.
+        // Record the monitor.
+        Monitor.Handler.SERVER_TICKING_GENERATED.fire();
+
+        // Wait for 0, configured OR 441 chunks to load.
         return chunks;
     }
 
@@ -257,7 +451,6 @@ public final class MinecraftServerMixin {
      * @apiNote Do not call, called by Mixin
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @ModifyConstant(method = {
             // Deobfuscated.
             "initialWorldChunkLoad(Lnet/minecraft/world/storage/WorldSavedDataStorage;)V", // Forge MCP (1.13)
@@ -288,6 +481,13 @@ public final class MinecraftServerMixin {
             KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Hijacking loop constant to prevent looping in MinecraftServerMixin. (oldLoop: {}, loop: {}, server: {})", new Object[]{oldLoop, loop, this}); // <- Array for compat with older Log4j2.
         }
 
+        // Record the monitor. The loop covers 625 chunks, count them once. (on the negative constant)
+        Monitor.Handler.SERVER_LEGACY_LOOP.fire();
+        if (oldLoop < 0) {
+            final int side = (((Constants.CHUNK_BLOCK_RADIUS_V1 * 2) / 16) + 1);
+            Monitor.avoided(side * side);
+        }
+
         // Return.
         return loop;
     }
@@ -40,6 +40,10 @@ import org.spongepowered.asm.mixin.Pseudo;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.Constant;
 import org.spongepowered.asm.mixin.injection.ModifyConstant;
+import ru.vidtu.ksyxis.Config;
+import ru.vidtu.ksyxis.Flight;
+import ru.vidtu.ksyxis.Monitor;
+import ru.vidtu.ksyxis.Ticket;
 import ru.vidtu.ksyxis.compile.Constants;
 import ru.vidtu.ksyxis.compile.Variables;
 import ru.vidtu.ksyxis.platform.KPlugin;
@@ -89,11 +93,11 @@ public final class PrepareSpawnTaskPreparingMixin {
      * prevent loading chunks when logging in the player. Used since 1.21.9 (inclusive).
      *
      * @param ticket Previous constant value for logging
-     * @return Always {@code 0}
+     * @return Configured join ticket level, {@code 0} by default
      * @apiNote Do not call, called by Mixin
+     * @see Ticket#PLAYER_JOIN
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @ModifyConstant(method = {
             // Deobfuscated.
             "lambda$tick$0(Lnet/minecraft/world/level/ChunkPos;)V", // Official Mojang
@@ -108,12 +112,21 @@ public final class PrepareSpawnTaskPreparingMixin {
             assert (ticket == Constants.TICKET_LEVEL_V3) : "Ksyxis: Added ticket level is not " + Constants.TICKET_LEVEL_V3 + " in PrepareSpawnTaskPreparingMixin. (ticket: " + ticket + ", server: " + this + ')';
         }
 
+        // Get the level.
+        final int level = Config.ticket(Ticket.PLAYER_JOIN, null);
+
         // Log. (**DEBUG**)
         if (Variables.DEBUG_LOGS && KSYXIS_LOGGER.isDebugEnabled(KPlugin.MARKER)) {
-            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Adding zero-level ticket instead of " + Constants.TICKET_LEVEL_V3 + " level in PrepareSpawnTaskPreparingMixin. (ticket: {}, server: {})", new Object[]{ticket, this}); // <- Array for compat with older Log4j2.
+            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Adding configured level ticket instead of " + Constants.TICKET_LEVEL_V3 + " level in PrepareSpawnTaskPreparingMixin. (ticket: {}, level: {}, server: {})", new Object[]{ticket, level, this}); // <- Array for compat with older Log4j2.
         }
 
-        // Add zero-level ticket.
-        return 0;
+        // Record the flight.
+        Flight.ticket("PrepareSpawnTaskPreparingMixin.tick", ticket, level);
+
+        // Record the monitor.
+        Monitor.Handler.PLAYER_PREPARING_TICKET.fire();
+
+        // Add configured-level ticket. (zero-level by default)
+        return level;
     }
 }
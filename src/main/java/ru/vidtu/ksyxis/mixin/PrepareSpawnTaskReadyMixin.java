@@ -35,11 +35,19 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
 import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Constant;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyConstant;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import ru.vidtu.ksyxis.Config;
+import ru.vidtu.ksyxis.Flight;
+import ru.vidtu.ksyxis.Monitor;
+import ru.vidtu.ksyxis.Ticket;
 import ru.vidtu.ksyxis.compile.Constants;
 import ru.vidtu.ksyxis.compile.Variables;
 import ru.vidtu.ksyxis.platform.KPlugin;
@@ -70,6 +78,15 @@ public final class PrepareSpawnTaskReadyMixin {
     @UnknownNullability
     private static final Logger KSYXIS_LOGGER = (Variables.DEBUG_LOGS ? LogManager.getLogger("Ksyxis/PrepareSpawnTaskReadyMixin") : null);
 
+    /**
+     * Current JFR player chunks wait event, {@code null} if none.
+     *
+     * @see Flight#playerChunksBegin(int, int)
+     */
+    @Unique
+    @Nullable
+    private Object ksyxis_playerChunksEvent;
+
     /**
      * An instance of this class cannot be created.
      *
@@ -90,11 +107,11 @@ public final class PrepareSpawnTaskReadyMixin {
      * loading chunks when logging in the player. Used since 1.21.9 (inclusive).
      *
      * @param ticket Previous constant value for logging
-     * @return Always {@code 0}
+     * @return Configured join ticket level, {@code 0} by default
      * @apiNote Do not call, called by Mixin
+     * @see Ticket#PLAYER_JOIN
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @ModifyConstant(method = {
             // Deobfuscated.
             "keepAlive()V", // Official Mojang
@@ -110,13 +127,22 @@ public final class PrepareSpawnTaskReadyMixin {
             assert (ticket == Constants.TICKET_LEVEL_V3) : "Ksyxis: Added ticket level is not " + Constants.TICKET_LEVEL_V3 + " in PrepareSpawnTaskReadyMixin. (ticket: " + ticket + ", server: " + this + ')';
         }
 
+        // Get the level.
+        final int level = Config.ticket(Ticket.PLAYER_JOIN, null);
+
         // Log. (**DEBUG**)
         if (Variables.DEBUG_LOGS && KSYXIS_LOGGER.isDebugEnabled(KPlugin.MARKER)) {
-            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Adding zero-level ticket instead of " + Constants.TICKET_LEVEL_V3 + " level in PrepareSpawnTaskReadyMixin. (ticket: {}, server: {})", new Object[]{ticket, this}); // <- Array for compat with older Log4j2.
+            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Adding configured level ticket instead of " + Constants.TICKET_LEVEL_V3 + " level in PrepareSpawnTaskReadyMixin. (ticket: {}, level: {}, server: {})", new Object[]{ticket, level, this}); // <- Array for compat with older Log4j2.
         }
 
-        // Add zero-level ticket.
-        return 0;
+        // Record the flight.
+        Flight.ticket("PrepareSpawnTaskReadyMixin.keepAlive", ticket, level);
+
+        // Record the monitor.
+        Monitor.Handler.PLAYER_READY_TICKET.fire();
+
+        // Add configured-level ticket. (zero-level by default)
+        return level;
     }
 
     /**
@@ -124,11 +150,11 @@ public final class PrepareSpawnTaskReadyMixin {
      * waiting for entities when logging in the player. Used since 1.21.9 (inclusive).
      *
      * @param ticket Previous constant value for logging
-     * @return Always {@code 0}
+     * @return Configured join ticket level, {@code 0} by default
      * @apiNote Do not call, called by Mixin
+     * @see Ticket#PLAYER_JOIN
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @ModifyConstant(method = {
             // Deobfuscated.
             "spawn(Lnet/minecraft/network/Connection;Lnet/minecraft/server/network/CommonListenerCookie;)Lnet/minecraft/server/level/ServerPlayer;", // Official Mojang
@@ -144,12 +170,44 @@ public final class PrepareSpawnTaskReadyMixin {
             assert (ticket == 3) : "Ksyxis: Waited-for ticket level is not " + Constants.TICKET_LEVEL_V3 + " in PrepareSpawnTaskReadyMixin. (ticket: " + ticket + ", server: " + this + ')';
         }
 
+        // Get the level.
+        final int level = Config.ticket(Ticket.PLAYER_JOIN, null);
+
         // Log. (**DEBUG**)
         if (Variables.DEBUG_LOGS && KSYXIS_LOGGER.isDebugEnabled(KPlugin.MARKER)) {
-            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Waiting for zero-level ticket instead of " + Constants.TICKET_LEVEL_V3 + " level in PrepareSpawnTaskReadyMixin. (ticket: {}, server: {})", new Object[]{ticket, this}); // <- Array for compat with older Log4j2.
+            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Waiting for configured level ticket instead of " + Constants.TICKET_LEVEL_V3 + " level in PrepareSpawnTaskReadyMixin. (ticket: {}, level: {}, server: {})", new Object[]{ticket, level, this}); // <- Array for compat with older Log4j2.
         }
 
-        // Wait for zero-level ticket.
-        return 0;
+        // Record the flight. The wait starts right after this constant and ends when the player is spawned.
+        this.ksyxis_playerChunksEvent = Flight.playerChunksBegin(ticket, level);
+
+        // Record the monitor.
+        Monitor.Handler.PLAYER_READY_WAIT.fire();
+
+        // Wait for configured-level ticket. (zero-level by default)
+        return level;
+    }
+
+    /**
+     * Injects into {@code PrepareSpawnTask$Ready.spawn} (Mojang mappings) to end
+     * the player chunks wait. Used since 1.21.9 (inclusive).
+     *
+     * @param cir Callback data, ignored
+     * @apiNote Do not call, called by Mixin
+     * @see #ksyxis_spawn_waitForEntities(int)
+     */
+    @DoNotCall("Called by Mixin")
+    @Inject(method = {
+            // Deobfuscated.
+            "spawn(Lnet/minecraft/network/Connection;Lnet/minecraft/server/network/CommonListenerCookie;)Lnet/minecraft/server/level/ServerPlayer;", // Official Mojang
+            "onReady(Lnet/minecraft/network/ClientConnection;Lnet/minecraft/server/network/ConnectedClientData;)Lnet/minecraft/server/network/ServerPlayerEntity;", // Fabric Yarn
+
+            // Obfuscated.
+            "method_72305(Lnet/minecraft/class_2535;Lnet/minecraft/class_8792;)Lnet/minecraft/class_3222;" // Fabric Intermediary
+    }, at = @At("RETURN"), remap = false, require = 0, expect = 0)
+    private void ksyxis_spawn_return(final CallbackInfoReturnable<?> cir) {
+        // Record the flight.
+        Flight.playerChunksEnd(this.ksyxis_playerChunksEvent);
+        this.ksyxis_playerChunksEvent = null;
     }
 }
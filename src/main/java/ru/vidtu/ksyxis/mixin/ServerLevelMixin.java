@@ -42,12 +42,20 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Constant;
 import org.spongepowered.asm.mixin.injection.ModifyConstant;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
+import ru.vidtu.ksyxis.Config;
+import ru.vidtu.ksyxis.Dimensions;
+import ru.vidtu.ksyxis.Flight;
+import ru.vidtu.ksyxis.Monitor;
+import ru.vidtu.ksyxis.SpawnLevel;
+import ru.vidtu.ksyxis.Ticket;
+import ru.vidtu.ksyxis.Timeline;
 import ru.vidtu.ksyxis.compile.Constants;
 import ru.vidtu.ksyxis.compile.Variables;
 import ru.vidtu.ksyxis.platform.KPlugin;
 
 /**
- * Mixin for {@code ServerLevel} that disables spawn chunk tickets and sets {@code spawnChunkRadius} to {@code 0}.
+ * Mixin for {@code ServerLevel} that disables spawn chunk tickets and sets {@code spawnChunkRadius} to
+ * the {@link Config#ticket(Ticket, String) configured} value. ({@code 0} by default)
  *
  * @author VidTu
  * @apiNote Internal use only
@@ -67,7 +75,7 @@ import ru.vidtu.ksyxis.platform.KPlugin;
 }, remap = false)
 @Pseudo
 @NullMarked
-public final class ServerLevelMixin {
+public final class ServerLevelMixin implements SpawnLevel {
     /**
      * Logger for this class.
      */
@@ -75,6 +83,22 @@ public final class ServerLevelMixin {
     @UnknownNullability
     private static final Logger KSYXIS_LOGGER = (Variables.DEBUG_LOGS ? LogManager.getLogger("Ksyxis/ServerLevelMixin") : null);
 
+    /**
+     * Whether a spawn chunk ticket has been added to this level.
+     *
+     * @see #ksyxis_spawnDistance()
+     */
+    @Unique
+    private boolean ksyxis_spawnTicket;
+
+    /**
+     * Distance of the last spawn chunk ticket added to this level, if {@link #ksyxis_spawnTicket}.
+     *
+     * @see #ksyxis_spawnDistance()
+     */
+    @Unique
+    private int ksyxis_spawnDistance;
+
     /**
      * An instance of this class cannot be created.
      *
@@ -90,16 +114,24 @@ public final class ServerLevelMixin {
         }
     }
 
+    @Contract(pure = true)
+    @Override
+    public int ksyxis_spawnDistance() {
+        return (this.ksyxis_spawnTicket ? this.ksyxis_spawnDistance : -1);
+    }
+
     /**
-     * Injects into {@code ServerLevel.setDefaultSpawnPos} (Mojang mappings) to
-     * override the {@code spawnChunkRadius} gamerule. Used since 1.20.6 (inclusive).
+     * Injects into {@code ServerLevel.setDefaultSpawnPos} (Mojang mappings) to override the ticket distance
+     * computed from the {@code spawnChunkRadius} gamerule. The game stores {@code gamerule + 1} and adds the
+     * ticket only if it's greater than {@code 1}. Used since 1.20.6 (inclusive).
      *
-     * @param spawnChunks Previous {@code spawnChunkRadius} value for logging
-     * @return Always {@code 0}
+     * @param spawnChunks Previous {@code spawnChunkRadius + 1} value for logging
+     * @return Ticket distance for the configured spawn chunk radius of this level's dimension, {@code 0} by default
+     * @see Config#startDistance(int)
      * @apiNote Do not call, called by Mixin
+     * @see Ticket#START
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @ModifyVariable(method = {
             // Deobfuscated.
             "setDefaultSpawnPos(Lnet/minecraft/core/BlockPos;F)V", // Official Mojang
@@ -111,28 +143,99 @@ public final class ServerLevelMixin {
     private int ksyxis_setDefaultSpawnPos_spawnChunkRadius_getInt(final int spawnChunks) {
         // Assert.
         if (Variables.DEBUG_ASSERTS) {
-            assert ((spawnChunks >= 0) && (spawnChunks <= Constants.MAXIMUM_SPAWN_CHUNKS_V2)) : "Ksyxis: Gamerule 'spawnChunkRadius' is not in the [0.." + Constants.MAXIMUM_SPAWN_CHUNKS_V2 + "] range in ServerLevelMixin. (spawnChunks: " + spawnChunks + ", server: " + this + ')';
+            assert ((spawnChunks >= 1) && (spawnChunks <= (Constants.MAXIMUM_SPAWN_CHUNKS_V2 + 1))) : "Ksyxis: Gamerule 'spawnChunkRadius' + 1 is not in the [1.." + (Constants.MAXIMUM_SPAWN_CHUNKS_V2 + 1) + "] range in ServerLevelMixin. (spawnChunks: " + spawnChunks + ", server: " + this + ')';
         }
 
+        // Get the distance.
+        final String dimension = Dimensions.of(this);
+        final int radius = Config.ticket(Ticket.START, dimension);
+        final int distance = Config.startDistance(radius);
+
+        // Record the timeline.
+        Timeline.mark(Timeline.SPAWN_TICKET, dimension, false);
+
         // Log. (**DEBUG**)
         if (Variables.DEBUG_LOGS && KSYXIS_LOGGER.isDebugEnabled(KPlugin.MARKER)) {
-            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Reporting 0 as spawnChunkRadius gamerule in ServerLevelMixin. (spawnChunks: {}, level: {})", new Object[]{spawnChunks, this}); // <- Array for compat with older Log4j2.
+            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Reporting configured spawnChunkRadius gamerule in ServerLevelMixin. (spawnChunks: {}, radius: {}, distance: {}, level: {})", new Object[]{spawnChunks, radius, distance, this}); // <- Array for compat with older Log4j2.
         }
 
-        // Report spawnChunkRadius gamerule as 0.
-        return 0;
+        // Remember the ticket.
+        this.ksyxis_spawnDistance = distance;
+        this.ksyxis_spawnTicket = true;
+
+        // Record the monitor.
+        Monitor.Handler.LEVEL_SPAWN_CHUNK_RADIUS.fire();
+        Monitor.spawnTicket(dimension, distance);
+
+        // Report spawnChunkRadius gamerule as configured. (0 by default, no ticket)
+        return distance;
+    }
+
+    /**
+     * Injects into {@code ServerLevel.setDefaultSpawnPos} (Mojang mappings) to remove the previous spawn
+     * ticket with the same distance it was added with. Used in 1.14 (inclusive) through 1.20.4 (inclusive).
+     * Only replaces the constant, the ticket is recorded by {@link #ksyxis_setDefaultSpawnPos_addRegionTicket(int)}.
+     *
+     * @param ticket Previous constant value for logging
+     * @return Ticket distance for the configured spawn chunk radius of this level's dimension, {@code 0} by default
+     * @apiNote Do not call, called by Mixin
+     * @see Config#startDistance(int)
+     * @see Ticket#START
+     */
+    @DoNotCall("Called by Mixin")
+    @ModifyConstant(method = {
+            // Deobfuscated.
+            "setDefaultSpawnPos(Lnet/minecraft/core/BlockPos;F)V", // Official Mojang
+            "setDefaultSpawnPos(Lnet/minecraft/core/BlockPos;)V", // Official Mojang (Old)
+            "setSpawnPos(Lnet/minecraft/util/math/BlockPos;F)V", // Fabric Yarn
+            "setSpawnPos(Lnet/minecraft/util/math/BlockPos;)V", // Fabric Yarn (Old)
+            "setSpawnLocation(Lnet/minecraft/util/math/BlockPos;F)V", // Forge MCP
+            "setSpawnLocation(Lnet/minecraft/util/math/BlockPos;)V", // Forge MCP (Old)
+            "setSpawnPoint(Lnet/minecraft/util/math/BlockPos;F)V", // Ornithe Feather
+            "setSpawnPoint(Lnet/minecraft/util/math/BlockPos;)V", // Ornithe Feather (Old)
+
+            // Obfuscated.
+            "method_8554(Lnet/minecraft/class_2338;F)V", // Fabric Intermediary
+            "method_8554(Lnet/minecraft/class_2338;)V", // Fabric Intermediary (Old)
+            "m_8733_(Lnet/minecraft/core/BlockPos;F)V", // Forge SRG (1.20.x)
+            "m_8733_(Lnet/minecraft/src/C_4675_;F)V", // Forge SRG (1.17.x)
+            "func_241124_a__(Lnet/minecraft/util/math/BlockPos;F)V", // Forge SRG (1.16.x)
+            "func_241124_a__(Lnet/minecraft/util/math/BlockPos;)V", // Forge SRG (1.16.x/Old)
+            "m_3711633(Lnet/minecraft/unmapped/C_3674802;)V" // Ornithe Intermediary
+    }, constant = @Constant(intValue = Constants.TICKET_LEVEL_V1, ordinal = 0), remap = false, require = 0, expect = 0)
+    private int ksyxis_setDefaultSpawnPos_removeRegionTicket(final int ticket) {
+        // Assert.
+        if (Variables.DEBUG_ASSERTS) {
+            // Should never happen on practice, constant Mixin.
+            assert (ticket == Constants.TICKET_LEVEL_V1) : "Ksyxis: Removed ticket level is not " + Constants.TICKET_LEVEL_V1 + " in ServerLevelMixin. (ticket: " + ticket + ", level: " + this + ')';
+        }
+
+        // Get the distance.
+        final String dimension = Dimensions.of(this);
+        final int radius = Config.ticket(Ticket.START, dimension);
+        final int distance = Config.startDistance(radius);
+
+        // Log. (**DEBUG**)
+        if (Variables.DEBUG_LOGS && KSYXIS_LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Removing configured level ticket instead of " + Constants.TICKET_LEVEL_V1 + " in ServerLevelMixin. (ticket: {}, radius: {}, distance: {}, level: {})", new Object[]{ticket, radius, distance, this}); // <- Array for compat with older Log4j2.
+        }
+
+        // Remove configured-distance chunk loading ticket. (zero-distance by default)
+        return distance;
     }
 
     /**
      * Injects into {@code ServerLevel.setDefaultSpawnPos} (Mojang mappings) to prevent loading chunks at the
-     * spawn after setting it. Used in 1.14 (inclusive) through 1.20.4 (inclusive). Always returns {@code 0}.
+     * spawn after setting it. Used in 1.14 (inclusive) through 1.20.4 (inclusive). Returns {@code 0} by default.
+     * Only matches the added ticket, the removed one is handled by {@link #ksyxis_setDefaultSpawnPos_removeRegionTicket(int)}.
      *
      * @param ticket Previous constant value for logging
-     * @return Always {@code 0}
+     * @return Ticket distance for the configured spawn chunk radius of this level's dimension, {@code 0} by default
      * @apiNote Do not call, called by Mixin
+     * @see Config#startDistance(int)
+     * @see Ticket#START
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @ModifyConstant(method = {
             // Deobfuscated.
             "setDefaultSpawnPos(Lnet/minecraft/core/BlockPos;F)V", // Official Mojang
@@ -152,7 +255,7 @@ public final class ServerLevelMixin {
             "func_241124_a__(Lnet/minecraft/util/math/BlockPos;F)V", // Forge SRG (1.16.x)
             "func_241124_a__(Lnet/minecraft/util/math/BlockPos;)V", // Forge SRG (1.16.x/Old)
             "m_3711633(Lnet/minecraft/unmapped/C_3674802;)V" // Ornithe Intermediary
-    }, constant = @Constant(intValue = Constants.TICKET_LEVEL_V1), remap = false, require = 0, expect = 0)
+    }, constant = @Constant(intValue = Constants.TICKET_LEVEL_V1, ordinal = 1), remap = false, require = 0, expect = 0)
     private int ksyxis_setDefaultSpawnPos_addRegionTicket(final int ticket) {
         // Assert.
         if (Variables.DEBUG_ASSERTS) {
@@ -160,12 +263,32 @@ public final class ServerLevelMixin {
             assert (ticket == Constants.TICKET_LEVEL_V1) : "Ksyxis: Added ticket level is not " + Constants.TICKET_LEVEL_V1 + " in ServerLevelMixin. (ticket: " + ticket + ", level: " + this + ')';
         }
 
+        // Get the distance.
+        final String dimension = Dimensions.of(this);
+        final int radius = Config.ticket(Ticket.START, dimension);
+        final int distance = Config.startDistance(radius);
+
+        // Record the timeline.
+        Timeline.mark(Timeline.SPAWN_TICKET, dimension, false);
+
         // Log. (**DEBUG**)
         if (Variables.DEBUG_LOGS && KSYXIS_LOGGER.isDebugEnabled(KPlugin.MARKER)) {
-            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Adding zero-level ticket instead of " + Constants.TICKET_LEVEL_V1 + " in ServerLevelMixin. (ticket: {}, level: {})", new Object[]{ticket, this}); // <- Array for compat with older Log4j2.
+            KSYXIS_LOGGER.debug(KPlugin.MARKER, "Ksyxis: Adding configured level ticket instead of " + Constants.TICKET_LEVEL_V1 + " in ServerLevelMixin. (ticket: {}, radius: {}, distance: {}, level: {})", new Object[]{ticket, radius, distance, this}); // <- Array for compat with older Log4j2.
         }
 
-        // Add zero-level chunk loading ticket.
-        return 0;
+        // Record the flight.
+        Flight.ticket("ServerLevelMixin.setDefaultSpawnPos", ticket, distance);
+
+        // Remember the ticket.
+        this.ksyxis_spawnDistance = distance;
+        this.ksyxis_spawnTicket = true;
+
+        // Record the monitor.
+        Monitor.Handler.LEVEL_REGION_TICKET.fire();
+        Monitor.spawnTicket(dimension, distance);
+        Monitor.avoidedRegion(distance);
+
+        // Add configured-distance chunk loading ticket. (zero-distance by default)
+        return distance;
     }
 }
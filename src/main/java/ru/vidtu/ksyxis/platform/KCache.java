@@ -0,0 +1,515 @@
+/*
+ * Ksyxis is a third-party mod for Minecraft Java Edition that
+ * speed ups your world loading by removing unneeded chunks.
+ *
+ * MIT License
+ *
+ * Copyright (c) 2021-2026 VidTu
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+
+package ru.vidtu.ksyxis.platform;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.CheckReturnValue;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.spongepowered.asm.service.MixinService;
+import ru.vidtu.ksyxis.compile.Variables;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache of the {@link KPlugin} mixin applicability decisions. Decisions are keyed by
+ * the {@link #key() environment key}, the whole cache is dropped if the environment changes.
+ *
+ * @author VidTu
+ * @apiNote Internal use only
+ * @see KPlugin#shouldApplyMixin(String, String)
+ */
+@ApiStatus.Internal
+@NullMarked
+final class KCache {
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger("Ksyxis/KCache");
+
+    /**
+     * Path to the cache file.
+     */
+    private static final Path FILE = Paths.get("config", "ksyxis-probes.txt");
+
+    /**
+     * Resource path of the mixin whose {@code @Mixin} targets are used to find the game jar. The {@code MinecraftServer}
+     * class is renamed in some mappings (e.g. {@code net.minecraft.src.C_4977_} in Forge SRG), so the names are read
+     * from the mixin itself instead of being copied here.
+     */
+    private static final String GAME_MIXIN = "ru/vidtu/ksyxis/mixin/MinecraftServerMixin.class";
+
+    /**
+     * Mod lists resolved by the mod loaders. Each array is the loader class, its static instance getter, the mod list
+     * getter, and the getter chains (separated by {@code /}) of the mod ID, the mod version, and the mod file path.
+     */
+    private static final String[][] MOD_LISTS = {
+            {"net.fabricmc.loader.api.FabricLoader", "getInstance", "getAllMods", "getMetadata/getId", "getMetadata/getVersion/getFriendlyString", "getOrigin/getPaths"}, // Fabric, Quilt
+            {"net.neoforged.fml.loading.LoadingModList", "get", "getMods", "getModId", "getVersion", "getOwningFile/getFile/getFilePath"}, // NeoForge
+            {"net.minecraftforge.fml.loading.LoadingModList", "get", "getMods", "getModId", "getVersion", "getOwningFile/getFile/getFilePath"} // Forge (1.13+)
+    };
+
+    /**
+     * Maximum depth of the mods folder walk, used if the mod loader doesn't provide the mod list.
+     */
+    private static final int MODS_DEPTH = 8;
+
+    /**
+     * Environment key of this launch.
+     */
+    private final String key;
+
+    /**
+     * Cached decisions, mapped by the {@code "<targetClassName> <mixinClassName>"} string.
+     */
+    private final Map<String, Boolean> decisions = new ConcurrentHashMap<>(32);
+
+    /**
+     * Whether the {@link #decisions} have changed since the load.
+     */
+    private volatile boolean dirty;
+
+    /**
+     * Creates and loads a new cache. Registers a shutdown hook to save the cache.
+     */
+    KCache() {
+        // Compute the key.
+        this.key = key();
+
+        // Load the cache.
+        this.load();
+
+        // Save on shutdown.
+        Runtime.getRuntime().addShutdownHook(new Thread(this::save, "Ksyxis/KCache"));
+    }
+
+    /**
+     * Gets the cached decision.
+     *
+     * @param targetClassName Fully qualified class name of the target class
+     * @param mixinClassName  Fully qualified class name of the mixin
+     * @return Cached decision, {@code null} if not cached
+     */
+    @Nullable
+    Boolean get(final String targetClassName, final String mixinClassName) {
+        // Get the decision.
+        final Boolean decision = this.decisions.get(targetClassName + ' ' + mixinClassName);
+
+        // Warn about the cached negative decision. A stale one silently turns Ksyxis off.
+        if (Boolean.FALSE.equals(decision)) {
+            LOGGER.warn("Ksyxis: Using the cached decision to NOT apply the mixin. Delete the probe cache file, if Ksyxis doesn't work. (targetClassName: {}, mixinClassName: {}, file: {})", new Object[]{targetClassName, mixinClassName, FILE}); // <- Array for compat with older Log4j2.
+        }
+
+        // Return.
+        return decision;
+    }
+
+    /**
+     * Caches the decision.
+     *
+     * @param targetClassName Fully qualified class name of the target class
+     * @param mixinClassName  Fully qualified class name of the mixin
+     * @param apply           Whether the mixin should be applied
+     */
+    void put(final String targetClassName, final String mixinClassName, final boolean apply) {
+        final Boolean old = this.decisions.put(targetClassName + ' ' + mixinClassName, apply);
+        if ((old == null) || (old != apply)) {
+            this.dirty = true;
+        }
+    }
+
+    /**
+     * Loads the cache from the {@link #FILE}, if its key matches the {@link #key}.
+     */
+    private void load() {
+        try (final BufferedReader reader = Files.newBufferedReader(FILE, StandardCharsets.UTF_8)) {
+            // Check the key.
+            final String fileKey = reader.readLine();
+            if (!this.key.equals(fileKey)) {
+                // Log. (**DEBUG**)
+                if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                    LOGGER.debug(KPlugin.MARKER, "Ksyxis: Probe cache key doesn't match, ignoring the cache. (key: {}, fileKey: {}, file: {})", new Object[]{this.key, fileKey, FILE}); // <- Array for compat with older Log4j2.
+                }
+                return;
+            }
+
+            // Read the decisions.
+            for (/*non-final*/ String line; (line = reader.readLine()) != null; ) {
+                final int separator = line.lastIndexOf('=');
+                if (separator <= 0) continue;
+                this.decisions.put(line.substring(0, separator), Boolean.parseBoolean(line.substring(separator + 1)));
+            }
+
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                LOGGER.debug(KPlugin.MARKER, "Ksyxis: Probe cache loaded. (key: {}, decisions: {}, file: {})", new Object[]{this.key, this.decisions, FILE}); // <- Array for compat with older Log4j2.
+            }
+        } catch (final NoSuchFileException nsfe) {
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                LOGGER.debug(KPlugin.MARKER, "Ksyxis: No probe cache found. (file: {})", new Object[]{FILE, nsfe}); // <- Array for compat with older Log4j2.
+            }
+        } catch (final Throwable t) {
+            // Log.
+            LOGGER.warn("Ksyxis: Unable to load the probe cache. (file: {})", new Object[]{FILE, t}); // <- Array for compat with older Log4j2.
+            this.decisions.clear();
+        }
+    }
+
+    /**
+     * Saves the cache to the {@link #FILE}, if it has changed.
+     */
+    private void save() {
+        // Skip if not changed.
+        if (!this.dirty) return;
+        try {
+            // Create the directory.
+            final Path parent = FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            // Write to the temporary file.
+            final Path temp = FILE.resolveSibling("ksyxis-probes.txt.tmp");
+            try (final BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(this.key);
+                writer.write('\n');
+                for (final Map.Entry<String, Boolean> entry : this.decisions.entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write('=');
+                    writer.write(entry.getValue().toString());
+                    writer.write('\n');
+                }
+            }
+
+            // Replace.
+            Files.move(temp, FILE, StandardCopyOption.REPLACE_EXISTING);
+            this.dirty = false;
+        } catch (final Throwable t) {
+            // Log.
+            LOGGER.warn("Ksyxis: Unable to save the probe cache. (file: {})", new Object[]{FILE, t}); // <- Array for compat with older Log4j2.
+        }
+    }
+
+    /**
+     * Computes the environment key. The key is the SHA-256 of the mod version, the Mixin service,
+     * the class-path (includes the game and the loader versions), the game jar, and the mod list.
+     *
+     * @return Environment key, a hex string
+     */
+    @CheckReturnValue
+    private static String key() {
+        try {
+            // Hash the environment.
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final StringBuilder builder = new StringBuilder(1024);
+            builder.append(Variables.VERSION).append('\n');
+            builder.append(MixinService.getService().getName()).append('\n');
+            for (final String property : new String[]{"java.class.path", "jdk.module.path", "fabric.gameJarPath", "legacyClassPath"}) {
+                builder.append(System.getProperty(property)).append('\n');
+            }
+
+            // Hash the game jar. The path may stay the same when the jar is replaced.
+            game(builder);
+
+            // Hash the mods. The order is not stable across launches, so it's sorted.
+            final List<String> mods = mods();
+            Collections.sort(mods);
+            for (final String mod : mods) {
+                builder.append(mod).append('\n');
+            }
+
+            // Convert to hex.
+            final byte[] hash = digest.digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (final byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (final Throwable t) {
+            // Rethrow.
+            throw new RuntimeException("Ksyxis: Unable to compute the probe cache key.", t);
+        }
+    }
+
+    /**
+     * Appends the game jar (or class) location, size, and modification time to the key. The game class is
+     * the first existing {@code @Mixin} target of the {@link #GAME_MIXIN}.
+     *
+     * @param builder Key builder to append to
+     */
+    private static void game(final StringBuilder builder) {
+        try {
+            // Find the class.
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            if (loader == null) {
+                loader = KCache.class.getClassLoader();
+            }
+            /*non-final*/ URL url = null;
+            for (final String target : targets(loader)) {
+                final String resource = (target.replace('.', '/') + ".class");
+                url = ((loader != null) ? loader.getResource(resource) : ClassLoader.getSystemResource(resource));
+                if (url != null) break;
+            }
+            if (url == null) {
+                builder.append("no game\n");
+                return;
+            }
+            builder.append(url).append('\n');
+
+            // Hash the class entry.
+            final URLConnection connection = url.openConnection();
+            connection.setUseCaches(false);
+            builder.append(connection.getContentLengthLong()).append(' ').append(connection.getLastModified()).append('\n');
+
+            // Hash the jar file.
+            final String raw = url.toString();
+            final int separator = raw.indexOf("!/");
+            if ("jar".equals(url.getProtocol()) && (separator >= 0)) {
+                final File jar = new File(new URL(raw.substring(4, separator)).toURI());
+                builder.append(jar.length()).append(' ').append(jar.lastModified()).append('\n');
+            }
+        } catch (final Throwable t) {
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                LOGGER.debug(KPlugin.MARKER, "Ksyxis: Unable to hash the game jar for the probe cache key. (mixin: {})", new Object[]{GAME_MIXIN, t}); // <- Array for compat with older Log4j2.
+            }
+
+            // Append the failure, so the key doesn't match a successfully hashed jar.
+            builder.append("unknown game\n");
+        }
+    }
+
+    /**
+     * Reads the {@code @Mixin} targets of the {@link #GAME_MIXIN} without loading the mixin class.
+     *
+     * @param loader Class loader to read the mixin from, {@code null} for the system class loader
+     * @return Fully qualified target class names, in the declaration order
+     * @throws Exception If the mixin can't be read
+     */
+    @CheckReturnValue
+    private static List<String> targets(@Nullable final ClassLoader loader) throws Exception {
+        // Read the mixin.
+        final ClassNode node = new ClassNode();
+        try (final InputStream in = ((loader != null) ? loader.getResourceAsStream(GAME_MIXIN) : ClassLoader.getSystemResourceAsStream(GAME_MIXIN))) {
+            if (in == null) throw new IllegalStateException("Ksyxis: Game mixin not found. (mixin: " + GAME_MIXIN + ')');
+            new ClassReader(in).accept(node, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        }
+
+        // Find the targets.
+        final List<String> targets = new ArrayList<>(2);
+        final List<AnnotationNode> annotations = node.invisibleAnnotations;
+        if (annotations == null) return targets;
+        for (final AnnotationNode annotation : annotations) {
+            if (!"Lorg/spongepowered/asm/mixin/Mixin;".equals(annotation.desc) || (annotation.values == null)) continue;
+            for (int i = 0; (i + 1) < annotation.values.size(); i += 2) {
+                if (!"targets".equals(annotation.values.get(i))) continue;
+                for (final Object target : (List<?>) annotation.values.get(i + 1)) {
+                    targets.add(String.valueOf(target));
+                }
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Lists the mods with their versions, file sizes, and modification times. The mods are taken from
+     * the mod loader, so nested and loader-specific (e.g. {@code mods/<version>/}) mods are included. If the loader
+     * doesn't provide the mod list at this point (e.g. legacy Forge), the {@code mods} folder is walked recursively.
+     *
+     * @return Mod descriptions, in no particular order
+     */
+    @CheckReturnValue
+    private static List<String> mods() {
+        // Ask the mod loaders.
+        final List<String> mods = new ArrayList<>(64);
+        for (final String[] spec : MOD_LISTS) {
+            try {
+                // Get the list.
+                final Class<?> type = Class.forName(spec[0], false, KCache.class.getClassLoader());
+                final Object loader = type.getMethod(spec[1]).invoke(null);
+                final Object list = call(loader, spec[2]);
+                if (!(list instanceof Iterable<?>)) continue;
+
+                // Describe the mods.
+                for (final Object mod : (Iterable<?>) list) {
+                    final StringBuilder builder = new StringBuilder(64);
+                    builder.append(call(mod, spec[3])).append(' ').append(call(mod, spec[4]));
+                    final Object paths = call(mod, spec[5]);
+                    for (final Object path : ((paths instanceof Iterable<?>) ? (Iterable<?>) paths : Collections.singletonList(paths))) {
+                        if (!(path instanceof Path)) continue;
+                        file(builder, (Path) path);
+                    }
+                    mods.add(builder.toString());
+                }
+
+                // Log. (**DEBUG**)
+                if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(KPlugin.MARKER)) {
+                    LOGGER.debug(KPlugin.MARKER, "Ksyxis: Got the mod list from the loader for the probe cache key. (loader: {}, mods: {})", new Object[]{spec[0], mods.size()}); // <- Array for compat with older Log4j2.
+                }
+
+                // Done.
+                return mods;
+            } catch (final Throwable t) {
+                // Log. (**TRACE**)
+                if (Variables.DEBUG_LOGS && LOGGER.isTraceEnabled(KPlugin.MARKER)) {
+                    LOGGER.trace(KPlugin.MARKER, "Ksyxis: Mod loader not available, skipping in KCache. (loader: {})", new Object[]{spec[0], t}); // <- Array for compat with older Log4j2.
+                }
+                mods.clear();
+            }
+        }
+
+        // Walk the mods folder.
+        final Path folder = Paths.get("mods");
+        if (!Files.isDirectory(folder)) return mods;
+        try (final Stream<Path> stream = Files.walk(folder, MODS_DEPTH)) {
+            stream.filter(Files::isRegularFile).forEach(path -> {
+                final StringBuilder builder = new StringBuilder(64);
+                builder.append("file");
+                file(builder, path);
+                mods.add(builder.toString());
+            });
+        } catch (final Throwable t) {
+            // Log.
+            LOGGER.warn("Ksyxis: Unable to list the mods for the probe cache key. (folder: {})", new Object[]{folder, t}); // <- Array for compat with older Log4j2.
+            mods.add("unknown mods");
+        }
+        return mods;
+    }
+
+    /**
+     * Appends the file path, size, and modification time to the builder.
+     *
+     * @param builder Builder to append to
+     * @param path    File path
+     */
+    private static void file(final StringBuilder builder, final Path path) {
+        builder.append(' ').append(path);
+        try {
+            builder.append(' ').append(Files.size(path)).append(' ').append(Files.getLastModifiedTime(path).toMillis());
+        } catch (final Throwable ignored) {
+            // Not a file (e.g. a directory in the development environment), the path is enough.
+        }
+    }
+
+    /**
+     * Calls the chain of public no-argument getters, separated by {@code /}.
+     *
+     * @param target Object to call the first getter on
+     * @param chain  Getter names, separated by {@code /}
+     * @return Result of the last getter, {@code null} if any getter is missing, fails, or returns {@code null}
+     */
+    @Nullable
+    private static Object call(@Nullable final Object target, final String chain) {
+        /*non-final*/ Object value = target;
+        for (final String name : chain.split("/")) {
+            if (value == null) return null;
+            try {
+                value = getter(value.getClass(), name).invoke(value);
+            } catch (final Throwable ignored) {
+                // Missing in this loader version.
+                return null;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Finds the public getter, preferring the declaration in a public type. The loader implementation classes
+     * might not be public, while their API interfaces are.
+     *
+     * @param type Type to search
+     * @param name Getter name
+     * @return Found getter
+     * @throws NoSuchMethodException If the getter is not found
+     */
+    @CheckReturnValue
+    private static Method getter(final Class<?> type, final String name) throws NoSuchMethodException {
+        // Search the public types.
+        for (/*non-final*/ Class<?> current = type; current != null; current = current.getSuperclass()) {
+            if (Modifier.isPublic(current.getModifiers())) {
+                try {
+                    return current.getMethod(name);
+                } catch (final NoSuchMethodException ignored) {
+                    // Check the interfaces.
+                }
+            }
+            for (final Class<?> face : current.getInterfaces()) {
+                if (!Modifier.isPublic(face.getModifiers())) continue;
+                try {
+                    return face.getMethod(name);
+                } catch (final NoSuchMethodException ignored) {
+                    // Check the next one.
+                }
+            }
+        }
+
+        // Fall back to the runtime type.
+        final Method method = type.getMethod(name);
+        method.setAccessible(true);
+        return method;
+    }
+
+    @Contract(pure = true)
+    @Override
+    public String toString() {
+        return "Ksyxis/KCache{" +
+                "key='" + this.key + '\'' +
+                ", decisions=" + this.decisions.size() +
+                ", dirty=" + this.dirty +
+                '}';
+    }
+}
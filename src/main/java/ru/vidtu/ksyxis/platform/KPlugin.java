@@ -45,9 +45,13 @@ import org.objectweb.asm.tree.ClassNode;
 import org.spongepowered.asm.mixin.extensibility.IMixinConfigPlugin;
 import org.spongepowered.asm.mixin.extensibility.IMixinInfo;
 import org.spongepowered.asm.service.IClassBytecodeProvider;
+import org.spongepowered.asm.service.IMixinService;
 import org.spongepowered.asm.service.MixinService;
+import ru.vidtu.ksyxis.Config;
+import ru.vidtu.ksyxis.Timings;
 import ru.vidtu.ksyxis.compile.Variables;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Set;
 
@@ -72,10 +76,22 @@ public final class KPlugin implements IMixinConfigPlugin {
     @UnknownNullability
     private static final Logger LOGGER = (Variables.DEBUG_LOGS ? LogManager.getLogger("Ksyxis/KPlugin") : null);
 
+    /**
+     * Current Mixin service.
+     */
+    private final IMixinService service = MixinService.getService();
+
     /**
      * Current Mixin bytecode provider.
      */
-    private final IClassBytecodeProvider provider = MixinService.getService().getBytecodeProvider();
+    private final IClassBytecodeProvider provider = this.service.getBytecodeProvider();
+
+    /**
+     * Whether the missing class resource means the class doesn't exist. {@code true} is used for services that
+     * load the game classes from resources with their runtime names (Fabric/Quilt Knot), {@code false} is used for
+     * services where the classes might be renamed or generated by the transformers (e.g. LaunchWrapper).
+     */
+    private final boolean resourceDecisive;
 
     /**
      * Whether the code data should be skipped in {@link ClassReader} when checking the class data. {@code true}
@@ -89,6 +105,11 @@ public final class KPlugin implements IMixinConfigPlugin {
      */
     private final boolean runTransformers;
 
+    /**
+     * Persistent cache of the decisions made by this plugin.
+     */
+    private final KCache cache = new KCache();
+
     /**
      * Creates a new plugin.
      *
@@ -100,18 +121,26 @@ public final class KPlugin implements IMixinConfigPlugin {
         final String providerClass = this.provider.getClass().getName();
         this.runTransformers = ("org.spongepowered.asm.launch.MixinLaunchPluginLegacy".equals(providerClass) ||
                 "org.spongepowered.asm.launch.MixinLaunchPlugin".equals(providerClass));
+
+        // Determine the resource probing.
+        this.resourceDecisive = this.service.getName().startsWith("Knot");
     }
 
     /**
-     * Checks if the mixin should be applied. A mixin is applied, if its class node exists. The existence of
-     * the class node is checked via {@link IClassBytecodeProvider#getClassNode(String)} from {@link #provider}.
+     * Checks if the mixin should be applied. A mixin is applied, if its target class exists. The existence of
+     * the class is checked via {@link IMixinService#getResourceAsStream(String)} from {@link #service}. If that
+     * can't decide, it's checked via {@link IClassBytecodeProvider#getClassNode(String)} from {@link #provider}.
+     * Only one of the legacy spawn chunk check strategies is applied, as selected by the {@link Config}.
+     * Decisions are stored in the {@link #cache} and reused across launches within the same environment.
      *
      * @param targetClassName Fully qualified class name of the target class
      * @param mixinClassName  Fully qualified class name of the mixin
      * @return Whether the Mixin should be applied
      * @apiNote Do not call, called by Mixin
-     * @see #provider
-     * @see IClassBytecodeProvider#getClassNode(String)
+     * @see #resource(String)
+     * @see #node(String)
+     * @see Config#SPAWN_CHUNK_CHECK_INJECT
+     * @see KCache
      */
     @DoNotCall("Called by Mixin")
     @CheckReturnValue
@@ -136,33 +165,124 @@ public final class KPlugin implements IMixinConfigPlugin {
                 return true;
             }
 
+            // Skip the legacy spawn chunk check strategy that is not selected.
+            if (Config.SPAWN_CHUNK_CHECK_INJECT ? "ru.vidtu.ksyxis.mixin.LevelMixin".equals(mixinClassName) : "ru.vidtu.ksyxis.mixin.LevelInjectMixin".equals(mixinClassName)) {
+                // Log. (**DEBUG**)
+                if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(MARKER)) {
+                    LOGGER.debug(MARKER, "Ksyxis: Spawn chunk check strategy is not selected, mixin WON'T be applied. (targetClassName: {}, mixinClassName: {}, inject: {}, plugin: {})", new Object[]{targetClassName, mixinClassName, Config.SPAWN_CHUNK_CHECK_INJECT, this}); // <- Array for compat with older Log4j2.
+                }
+
+                // Don't apply.
+                return false;
+            }
+
+            // Use the cached decision, if any.
+            final Boolean cached = this.cache.get(targetClassName, mixinClassName);
+            if (cached != null) {
+                // Log. (**DEBUG**)
+                if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(MARKER)) {
+                    LOGGER.debug(MARKER, "Ksyxis: Using the cached decision. (targetClassName: {}, mixinClassName: {}, apply: {}, plugin: {})", new Object[]{targetClassName, mixinClassName, cached, this}); // <- Array for compat with older Log4j2.
+                }
+
+                // Use the cache.
+                return cached;
+            }
+
+            // Check the resource, it's much cheaper than getting the node.
+            final long start = System.nanoTime();
+            final Boolean exists = this.resource(targetClassName);
+            if (exists != null) {
+                // Log. (**DEBUG**)
+                if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(MARKER)) {
+                    final long resourceTime = (System.nanoTime() - start);
+                    final long nodeStart = System.nanoTime();
+                    final boolean nodeExists = this.node(targetClassName);
+                    final long nodeTime = (System.nanoTime() - nodeStart);
+                    LOGGER.debug(MARKER, "Ksyxis: Mixin service resource check decided, mixin {} be applied. (targetClassName: {}, mixinClassName: {}, nodeExists: {}, resourceNs: {}, nodeNs: {}, savedNs: {}, plugin: {})", new Object[]{(exists ? "WILL" : "WON'T"), targetClassName, mixinClassName, nodeExists, resourceTime, nodeTime, (nodeTime - resourceTime), this}); // <- Array for compat with older Log4j2.
+                }
+
+                // Cache and return.
+                Timings.probe(mixinClassName, (System.nanoTime() - start));
+                this.cache.put(targetClassName, mixinClassName, exists);
+                return exists;
+            }
+
+            // Fall back to the node.
+            final boolean apply = this.node(targetClassName);
+            Timings.probe(mixinClassName, (System.nanoTime() - start));
+
+            // Log. (**DEBUG**)
+            if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(MARKER)) {
+                LOGGER.debug(MARKER, "Ksyxis: Bytecode provider decided, mixin {} be applied. (targetClassName: {}, mixinClassName: {}, plugin: {})", new Object[]{(apply ? "WILL" : "WON'T"), targetClassName, mixinClassName, this}); // <- Array for compat with older Log4j2.
+            }
+
+            // Cache and return.
+            this.cache.put(targetClassName, mixinClassName, apply);
+            return apply;
+        } catch (final Throwable t) {
+            // Rethrow.
+            throw new RuntimeException("Ksyxis: Unexpected plugin error. (targetClassName: " + targetClassName + ", mixinClassName: " + mixinClassName + ", plugin: " + this + ')', t);
+        }
+    }
+
+    /**
+     * Checks the class existence via the class resource from the {@link #service}.
+     *
+     * @param targetClassName Fully qualified class name of the target class
+     * @return {@code true} if the class exists, {@code false} if it doesn't exist, {@code null} if it can't be decided
+     * @see #resourceDecisive
+     */
+    @CheckReturnValue
+    @Nullable
+    private Boolean resource(final String targetClassName) {
+        try (final InputStream stream = this.service.getResourceAsStream(targetClassName.replace('.', '/') + ".class")) {
+            // Resource exists - class exists.
+            if (stream != null) return Boolean.TRUE;
+
+            // Resource doesn't exist - class doesn't exist, if the service is decisive.
+            return (this.resourceDecisive ? Boolean.FALSE : null);
+        } catch (final Throwable t) {
+            // Log. (**TRACE**)
+            if (Variables.DEBUG_LOGS && LOGGER.isTraceEnabled(MARKER)) {
+                LOGGER.trace(MARKER, "Ksyxis: Unable to check the class resource. (targetClassName: {}, plugin: {})", new Object[]{targetClassName, this, t}); // <- Array for compat with older Log4j2.
+            }
+
+            // Can't decide.
+            return null;
+        }
+    }
+
+    /**
+     * Checks the class existence via the class node from the {@link #provider}.
+     *
+     * @param targetClassName Fully qualified class name of the target class
+     * @return Whether the class exists
+     * @throws Exception If the provider throws anything other than {@link ClassNotFoundException}
+     * @see #skipCode
+     * @see #runTransformers
+     */
+    @CheckReturnValue
+    private boolean node(final String targetClassName) throws Exception {
+        try {
             // Get the node:
             // - It returns the class node, if the class exists.
             // - It throws ClassNotFoundException if the class doesn't exist.
             if (this.skipCode) {
-                this.provider.getClassNode(targetClassName, this.runTransformers, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES); // Implicit NPE for 'targetClassName'
+                this.provider.getClassNode(targetClassName, this.runTransformers, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
             } else {
-                this.provider.getClassNode(targetClassName, this.runTransformers); // Implicit NPE for 'targetClassName'
-            }
-
-            // Log. (**DEBUG**)
-            if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(MARKER)) {
-                LOGGER.debug(MARKER, "Ksyxis: Bytecode provider returned a valid node, mixin WILL be applied. (targetClassName: {}, mixinClassName: {}, plugin: {})", new Object[]{targetClassName, mixinClassName, this}); // <- Array for compat with older Log4j2.
+                this.provider.getClassNode(targetClassName, this.runTransformers);
             }
 
             // Didn't throw - class exists.
             return true;
         } catch (final ClassNotFoundException cnfe) {
-            // Log. (**DEBUG**)
-            if (Variables.DEBUG_LOGS && LOGGER.isDebugEnabled(MARKER)) {
-                LOGGER.debug(MARKER, "Ksyxis: Bytecode provider threw an CNFE, mixin WON'T be applied. (targetClassName: {}, mixinClassName: {}, plugin: {})", new Object[]{targetClassName, mixinClassName, this, cnfe}); // <- Array for compat with older Log4j2.
+            // Log. (**TRACE**)
+            if (Variables.DEBUG_LOGS && LOGGER.isTraceEnabled(MARKER)) {
+                LOGGER.trace(MARKER, "Ksyxis: Bytecode provider threw an CNFE. (targetClassName: {}, plugin: {})", new Object[]{targetClassName, this, cnfe}); // <- Array for compat with older Log4j2.
             }
 
-            // Provider threw an ClassNotFoundException. Don't apply mixin to avoid warnings. 
+            // Provider threw an ClassNotFoundException. Don't apply mixin to avoid warnings.
             return false;
-        } catch (final Throwable t) {
-            // Rethrow.
-            throw new RuntimeException("Ksyxis: Unexpected plugin error. (targetClassName: " + targetClassName + ", mixinClassName: " + mixinClassName + ", plugin: " + this + ')', t);
         }
     }
 
@@ -233,16 +353,16 @@ public final class KPlugin implements IMixinConfigPlugin {
     }
 
     /**
-     * Does nothing.
+     * Records the start of the Ksyxis mixin application.
      *
-     * @param targetClassName Ignored
+     * @param targetClassName Fully qualified class name of the target class
      * @param targetClass     Ignored
-     * @param mixinClassName  Ignored
+     * @param mixinClassName  Fully qualified class name of the mixin
      * @param mixinInfo       Ignored
      * @apiNote Do not call, called by Mixin
+     * @see Timings#applying(String, String)
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @Override
     public void preApply(final String targetClassName, final ClassNode targetClass,
                          final String mixinClassName, final IMixinInfo mixinInfo) {
@@ -254,20 +374,22 @@ public final class KPlugin implements IMixinConfigPlugin {
             assert (mixinInfo != null) : "Ksyxis: Parameter 'mixinInfo' is null. (targetClassName: " + targetClassName + ", targetClass: " + targetClass + ", mixinClassName: " + mixinClassName + ", plugin: " + this + ')';
         }
 
-        // NO-OP
+        // Record the time of Ksyxis mixins.
+        if (!mixinClassName.startsWith("ru.vidtu.ksyxis.mixin.")) return; // Implicit NPE for 'mixinClassName'
+        Timings.applying(targetClassName, mixinClassName);
     }
 
     /**
-     * Does nothing.
+     * Records the end of the Ksyxis mixin application.
      *
-     * @param targetClassName Ignored
+     * @param targetClassName Fully qualified class name of the target class
      * @param targetClass     Ignored
-     * @param mixinClassName  Ignored
+     * @param mixinClassName  Fully qualified class name of the mixin
      * @param mixinInfo       Ignored
      * @apiNote Do not call, called by Mixin
+     * @see Timings#applied(String, String)
      */
     @DoNotCall("Called by Mixin")
-    @Contract(pure = true)
     @Override
     public void postApply(final String targetClassName, final ClassNode targetClass,
                           final String mixinClassName, final IMixinInfo mixinInfo) {
@@ -279,16 +401,21 @@ public final class KPlugin implements IMixinConfigPlugin {
             assert (mixinInfo != null) : "Ksyxis: Parameter 'mixinInfo' is null. (targetClassName: " + targetClassName + ", targetClass: " + targetClass + ", mixinClassName: " + mixinClassName + ", plugin: " + this + ')';
         }
 
-        // NO-OP
+        // Record the time of Ksyxis mixins.
+        if (!mixinClassName.startsWith("ru.vidtu.ksyxis.mixin.")) return; // Implicit NPE for 'mixinClassName'
+        Timings.applied(targetClassName, mixinClassName);
     }
 
     @Contract(pure = true)
     @Override
     public String toString() {
         return "Ksyxis/KPlugin{" +
-                "provider=" + this.provider +
+                "service=" + this.service +
+                ", provider=" + this.provider +
                 ", skipCode=" + this.skipCode +
                 ", runTransformers=" + this.runTransformers +
+                ", resourceDecisive=" + this.resourceDecisive +
+                ", cache=" + this.cache +
                 '}';
     }
 }